@@ -0,0 +1,90 @@
+package com.techatpark.sjson.benchmark;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Json Texts used by the benchmarks. Names are files of the samples
+ * folder, or one of the generated large documents.
+ */
+final class Documents {
+
+    /**
+     * Folder of the sample files.
+     */
+    private static final Path SAMPLES = Path.of("src/test/resources/samples");
+
+    /**
+     * Array of objects, like a REST response or a NDJSON batch.
+     */
+    static final String RECORDS = "generated-records";
+
+    /**
+     * Array of integers and decimals, like a metrics payload.
+     */
+    static final String NUMBERS = "generated-numbers";
+
+    /**
+     * Number of elements in generated documents.
+     */
+    private static final int SIZE = 100_000;
+
+    private Documents() {
+    }
+
+    /**
+     * Loads the Json Text of the document.
+     * @param name
+     * @return json text
+     * @throws IOException
+     */
+    static String load(final String name) throws IOException {
+        return switch (name) {
+            case RECORDS -> records();
+            case NUMBERS -> numbers();
+            default -> Files.readString(SAMPLES.resolve(name));
+        };
+    }
+
+    /**
+     * Generates an array of records.
+     * @return json text
+     */
+    private static String records() {
+        final StringBuilder sb = new StringBuilder("[");
+        for (int i = 0; i < SIZE; i++) {
+            if (i != 0) {
+                sb.append(",\n");
+            }
+            sb.append("{\"id\": ").append(i)
+                    .append(", \"name\": \"name-").append(i)
+                    .append("\", \"active\": ").append(i % 2 == 0)
+                    .append(", \"score\": ").append(i * 0.25)
+                    .append(", \"tags\": [\"alpha\", \"beta\\tgamma\"]")
+                    .append(", \"address\": {\"city\": \"Chennai\", ")
+                    .append("\"zip\": \"600").append(i % 1000)
+                    .append("\"}, \"manager\": null}");
+        }
+        return sb.append("]").toString();
+    }
+
+    /**
+     * Generates an array of numbers.
+     * @return json text
+     */
+    private static String numbers() {
+        final StringBuilder sb = new StringBuilder("[");
+        for (int i = 0; i < SIZE; i++) {
+            if (i != 0) {
+                sb.append(',');
+            }
+            if (i % 2 == 0) {
+                sb.append((long) i * i * i);
+            } else {
+                sb.append(i / 7.0);
+            }
+        }
+        return sb.append("]").toString();
+    }
+}
@@ -0,0 +1,119 @@
+package com.techatpark.sjson.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.gson.Gson;
+import com.techatpark.sjson.Json;
+import com.techatpark.sjson.JsonReader;
+import org.json.JSONTokener;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Parses Json Text into native java objects using various parsers.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ParseBenchmark {
+
+    /**
+     * Name of the document.
+     */
+    @Param({"all-in-all.json", "array.json", "basic.json", "bigger.json",
+            "Issue537.json", "jsonpointer-testdoc.json",
+            "large-complex-string.json", "numbers.json", "object.json",
+            "org-json-Issue537.json", "schema.json", Documents.RECORDS,
+            Documents.NUMBERS})
+    private String document;
+
+    /**
+     * Json Text of the document.
+     */
+    private String jsonText;
+
+    /**
+     * Jackson Mapper.
+     */
+    private final ObjectMapper jackson = new ObjectMapper();
+
+    /**
+     * Gson.
+     */
+    private final Gson gson = new Gson();
+
+    /**
+     * Loads the document.
+     * @throws IOException
+     */
+    @Setup
+    public void setup() throws IOException {
+        jsonText = Documents.load(document);
+    }
+
+    /**
+     * Parses with SJson.
+     * @return value
+     * @throws IOException
+     */
+    @Benchmark
+    public Object sjson() throws IOException {
+        return Json.parse(new StringReader(jsonText));
+    }
+
+    /**
+     * Skips the document with SJson, as the baseline of reading it.
+     * @return last token
+     * @throws IOException
+     */
+    @Benchmark
+    public Object sjsonSkip() throws IOException {
+        try (JsonReader reader = new JsonReader(new StringReader(jsonText))) {
+            reader.skipValue();
+            return reader.getToken();
+        }
+    }
+
+    /**
+     * Parses with Jackson.
+     * @return value
+     * @throws IOException
+     */
+    @Benchmark
+    public Object jackson() throws IOException {
+        return jackson.readValue(new StringReader(jsonText), Object.class);
+    }
+
+    /**
+     * Parses with Gson.
+     * @return value
+     */
+    @Benchmark
+    public Object gson() {
+        return gson.fromJson(new StringReader(jsonText), Object.class);
+    }
+
+    /**
+     * Parses with org.json.
+     * @return value
+     */
+    @Benchmark
+    public Object orgJson() {
+        return new JSONTokener(new StringReader(jsonText)).nextValue();
+    }
+}
@@ -0,0 +1,133 @@
+package com.techatpark.sjson.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.gson.Gson;
+import com.techatpark.sjson.Json;
+import org.json.JSONTokener;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Writes native java objects as Json Text using various writers.
+ * SJson, Jackson and Gson write the same Map/List read by SJson.
+ * org.json writes its own JSONObject/JSONArray.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class StringifyBenchmark {
+
+    /**
+     * Name of the document.
+     */
+    @Param({"all-in-all.json", "array.json", "basic.json", "bigger.json",
+            "Issue537.json", "jsonpointer-testdoc.json",
+            "large-complex-string.json", "numbers.json", "object.json",
+            "org-json-Issue537.json", "schema.json", Documents.RECORDS,
+            Documents.NUMBERS})
+    private String document;
+
+    /**
+     * Value read by SJson.
+     */
+    private Object value;
+
+    /**
+     * Value read by org.json.
+     */
+    private Object orgJsonValue;
+
+    /**
+     * Jackson Mapper.
+     */
+    private final ObjectMapper jackson = new ObjectMapper();
+
+    /**
+     * Gson.
+     */
+    private final Gson gson = new Gson();
+
+    /**
+     * Loads the document.
+     * @throws IOException
+     */
+    @Setup
+    public void setup() throws IOException {
+        final String jsonText = Documents.load(document);
+        value = Json.parse(new StringReader(jsonText));
+        orgJsonValue = new JSONTokener(jsonText).nextValue();
+    }
+
+    /**
+     * Writes with SJson.
+     * @return json text
+     */
+    @Benchmark
+    public String sjson() {
+        return Json.stringify(value);
+    }
+
+    /**
+     * Writes UTF-8 bytes with SJson.
+     * @return json text
+     */
+    @Benchmark
+    public byte[] sjsonBytes() {
+        return Json.toBytes(value);
+    }
+
+    /**
+     * Writes with Jackson.
+     * @return json text
+     * @throws JsonProcessingException
+     */
+    @Benchmark
+    public String jackson() throws JsonProcessingException {
+        return jackson.writeValueAsString(value);
+    }
+
+    /**
+     * Writes UTF-8 bytes with Jackson.
+     * @return json text
+     * @throws JsonProcessingException
+     */
+    @Benchmark
+    public byte[] jacksonBytes() throws JsonProcessingException {
+        return jackson.writeValueAsBytes(value);
+    }
+
+    /**
+     * Writes with Gson.
+     * @return json text
+     */
+    @Benchmark
+    public String gson() {
+        return gson.toJson(value);
+    }
+
+    /**
+     * Writes with org.json.
+     * @return json text
+     */
+    @Benchmark
+    public String orgJson() {
+        return orgJsonValue.toString();
+    }
+}
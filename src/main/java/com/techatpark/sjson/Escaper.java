@@ -0,0 +1,132 @@
+package com.techatpark.sjson;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * Escapes Json Text. Runs of characters that need no escape are
+ * copied in bulk and unicode escapes are built from a lookup table.
+ */
+final class Escaper {
+
+    /**
+     * Hex digits of unicode escapes.
+     */
+    static final char[] HEX_DIGITS = "0123456789ABCDEF"
+            .toCharArray();
+
+    /**
+     * Mask of a hex digit.
+     */
+    static final int HEX_MASK = 0xF;
+
+    /**
+     * Shift of first hex digit.
+     */
+    static final int FIRST_DIGIT = 12;
+
+    /**
+     * Shift of second hex digit.
+     */
+    static final int SECOND_DIGIT = 8;
+
+    /**
+     * Shift of third hex digit.
+     */
+    static final int THIRD_DIGIT = 4;
+
+    private Escaper() {
+    }
+
+    /**
+     * Escape Text.
+     * Escape quotes, \, /, \r, \n, \b, \f, \t
+     * and other control characters (U+0000 through U+001F).
+     * @param s - Must not be null.
+     * @param appendable
+     * @throws IOException
+     */
+    static void escape(final String s, final Appendable appendable)
+            throws IOException {
+        if (appendable instanceof Utf8Writer writer) {
+            // Escaped while encoded
+            writer.escape(s);
+            return;
+        }
+        final int len = s.length();
+        int start = 0;
+        for (int i = 0; i < len; i++) {
+            final char ch = s.charAt(i);
+            if (!needsEscape(ch)) {
+                continue;
+            }
+            if (start < i) {
+                append(s, start, i, appendable);
+            }
+            escape(ch, appendable);
+            start = i + 1;
+        }
+        if (start == 0) {
+            appendable.append(s);
+        } else if (start < len) {
+            append(s, start, len, appendable);
+        }
+    }
+
+    /**
+     * Determines if the character needs escape.
+     * Reference: http://www.unicode.org/versions/Unicode5.1.0/
+     * @param ch
+     * @return flag
+     */
+    static boolean needsEscape(final char ch) {
+        if (ch < '\u007F') {
+            return ch < ' ' || ch == '"' || ch == '\\' || ch == '/';
+        }
+        return ch <= '\u009F' || ch >= '\u2000' && ch <= '\u20FF';
+    }
+
+    /**
+     * Appends escape sequence of the character.
+     * @param ch
+     * @param appendable
+     * @throws IOException
+     */
+    private static void escape(final char ch, final Appendable appendable)
+            throws IOException {
+        switch (ch) {
+            case '"' -> appendable.append("\\\"");
+            case '\\' -> appendable.append("\\\\");
+            case '\b' -> appendable.append("\\b");
+            case '\f' -> appendable.append("\\f");
+            case '\n' -> appendable.append("\\n");
+            case '\r' -> appendable.append("\\r");
+            case '\t' -> appendable.append("\\t");
+            case '/' -> appendable.append("\\/");
+            default -> appendable.append('\\').append('u')
+                    .append(HEX_DIGITS[ch >> FIRST_DIGIT & HEX_MASK])
+                    .append(HEX_DIGITS[ch >> SECOND_DIGIT & HEX_MASK])
+                    .append(HEX_DIGITS[ch >> THIRD_DIGIT & HEX_MASK])
+                    .append(HEX_DIGITS[ch & HEX_MASK]);
+        }
+    }
+
+    /**
+     * Appends part of the string. Writers append sub sequences by
+     * creating Strings, so they are written directly.
+     * @param s
+     * @param start
+     * @param end
+     * @param appendable
+     * @throws IOException
+     */
+    private static void append(final String s, final int start,
+                               final int end, final Appendable appendable)
+            throws IOException {
+        if (appendable instanceof Writer writer) {
+            writer.write(s, start, end - start);
+        } else {
+            appendable.append(s, start, end);
+        }
+    }
+}
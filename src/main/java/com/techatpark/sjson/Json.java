@@ -7,11 +7,24 @@ import com.techatpark.sjson.element.JsonObject;
 import com.techatpark.sjson.element.JsonString;
 import com.techatpark.sjson.element.JsonBoolean;
 
+import java.io.Closeable;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.io.Reader;
-import java.util.List;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.Map;
-import java.util.stream.Collectors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 
 /**
@@ -68,18 +81,292 @@ public sealed interface Json<T>
      * @throws IOException - throws io exception
      */
     static Object parse(final Reader reader) throws IOException {
-        return jsonReader(reader).read();
+        try (reader) {
+            return new ReaderParser(reader).parseDocument();
+        }
     }
 
     /**
-     * Parses the reader for Json.
-     * @param reader
-     * @return json
-     * @throws IOException
+     * Reads JSON as a Java Object, like {@link #parse(Reader)}, but
+     * object field names are canonicalized through the given cache
+     * instead of {@link KeyCache#getDefault()}.
+     *
+     * @param reader - file reader
+     * @param keyCache - cache of field names, null for no caching
+     * @return object
+     * @throws IOException - throws io exception
+     */
+    static Object parse(final Reader reader, final KeyCache keyCache)
+            throws IOException {
+        try (reader) {
+            final Parser parser = new ReaderParser(reader);
+            parser.keyCache(keyCache);
+            return parser.parseDocument();
+        }
+    }
+
+    /**
+     * Reads JSON as the type, without building Maps and Lists for it.
+     * Records, sealed interfaces of records, enums, Strings, numbers,
+     * booleans, arrays, Lists, Sets and Maps of them are supported.
+     * Object fields are bound to record components by name, and unknown
+     * fields are skipped. A sealed type is bound to the record whose
+     * simple name is in a leading {@code "@type"} field.
+     *
+     * @param reader - file reader
+     * @param type - type of the value
+     * @param <T> type of the value
+     * @return value
+     * @throws IOException - throws io exception
+     * @throws UnsupportedOperationException if type can not be bound
+     */
+    static <T> T parse(final Reader reader, final Class<T> type)
+            throws IOException {
+        try (reader) {
+            return JsonBinder.read(new ReaderParser(reader), type);
+        }
+    }
+
+    /**
+     * Reads JSON as a Java Object, like {@link #parse(Reader)}, but
+     * object and array values are read only when they are first
+     * accessed and then cached. Content is kept in memory, and values
+     * never accessed are skipped without creating them. Objects and
+     * arrays are returned as unmodifiable views which are not thread
+     * safe.
+     * <p>
+     * Values are validated when they are read, so an invalid value
+     * which is never accessed is not reported.
+     *
+     * @param reader - file reader
+     * @return object
+     * @throws IOException - throws io exception
+     */
+    static Object parseLazy(final Reader reader) throws IOException {
+        try (reader) {
+            return JsonLazy.parse(reader);
+        }
+    }
+
+    /**
+     * Reads JSON as a Java Object, like {@link #parse(Reader)}, but
+     * arrays having only integers are read as
+     * {@link com.techatpark.sjson.element.LongList} and arrays having
+     * only decimals are read as
+     * {@link com.techatpark.sjson.element.DoubleList}. Their values are
+     * held in a primitive array and boxed only when accessed.
+     *
+     * @param reader - file reader
+     * @return object
+     * @throws IOException - throws io exception
+     */
+    static Object parseCompact(final Reader reader) throws IOException {
+        try (reader) {
+            final Parser parser = new ReaderParser(reader);
+            parser.compactNumbers();
+            return parser.parseDocument();
+        }
+    }
+
+    /**
+     * Reads JSON into a compact tape, for documents kept in memory for
+     * long. Values are written as entries of a long array, and strings
+     * as UTF-8 bytes of one shared array, instead of maps, lists and
+     * boxed numbers.
+     * <p>
+     * Objects and arrays are returned as unmodifiable Map and List
+     * views over the tape. Their values are decoded on every access, so
+     * it trades access speed for memory. A view indexes its entries on
+     * first lookup, so keep the view to look up many values. Views can be
+     * shared across threads.
+     *
+     * @param reader - file reader
+     * @return object
+     * @throws IOException - throws io exception
      */
-    private static Json<?> jsonReader(final Reader reader) throws IOException {
+    static Object parseTape(final Reader reader) throws IOException {
         try (reader) {
-            return new Parser(reader).parse();
+            return JsonTape.parse(new ReaderParser(reader));
+        }
+    }
+
+    /**
+     * Reads UTF-8 encoded JSON into a compact tape.
+     *
+     * @see #parseTape(Reader)
+     * @param bytes - UTF-8 encoded content
+     * @return object
+     * @throws IOException - throws io exception
+     */
+    static Object parseTape(final byte[] bytes) throws IOException {
+        return JsonTape.parse(new Utf8Parser(bytes));
+    }
+
+    /**
+     * Reads UTF-8 encoded JSON as a Java Object.
+     * Stream is read through its own buffer, so it need not be buffered.
+     *
+     * @see #parse(Reader)
+     * @param inputStream - UTF-8 encoded stream
+     * @return object
+     * @throws IOException - throws io exception
+     */
+    static Object parse(final InputStream inputStream) throws IOException {
+        try (inputStream) {
+            return new Utf8Parser(inputStream).parseDocument();
+        }
+    }
+
+    /**
+     * Reads UTF-8 encoded JSON as a Java Object.
+     *
+     * @see #parse(Reader)
+     * @param bytes - UTF-8 encoded content
+     * @return object
+     * @throws IOException - throws io exception
+     */
+    static Object parse(final byte[] bytes) throws IOException {
+        return new Utf8Parser(bytes).parseDocument();
+    }
+
+    /**
+     * Reads remaining UTF-8 encoded bytes of the buffer as a Java Object.
+     * Position of the buffer is not changed.
+     *
+     * @see #parse(Reader)
+     * @param byteBuffer - UTF-8 encoded content
+     * @return object
+     * @throws IOException - throws io exception
+     */
+    static Object parse(final ByteBuffer byteBuffer) throws IOException {
+        return new Utf8Parser(byteBuffer).parseDocument();
+    }
+
+    /**
+     * Reads UTF-8 encoded JSON file as a Java Object.
+     * File is memory mapped and parsed from the mapped bytes, without
+     * a decoding reader. Files beyond 2 GB, which can not be mapped
+     * as one buffer, are read as a stream.
+     *
+     * @see #parse(Reader)
+     * @param path - UTF-8 encoded file
+     * @return object
+     * @throws IOException - throws io exception
+     */
+    static Object parse(final Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path,
+                StandardOpenOption.READ)) {
+            final long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                return new Utf8Parser(Channels.newInputStream(channel))
+                        .parseDocument();
+            }
+            return new Utf8Parser(channel.map(FileChannel.MapMode.READ_ONLY,
+                    0, size)).parseDocument();
+        }
+    }
+
+    /**
+     * Reads UTF-8 encoded JSON as a Java Object, like
+     * {@link #parse(byte[])}, but elements of a top level array are
+     * parsed in parallel on the given pool, e.g.
+     * {@link ForkJoinPool#commonPool()}. Element boundaries are found
+     * by a structural scan of the bytes. Other values are parsed
+     * sequentially.
+     *
+     * @param bytes - UTF-8 encoded content
+     * @param pool - pool to parse the elements
+     * @return object
+     * @throws IOException - throws io exception
+     */
+    static Object parseParallel(final byte[] bytes, final ForkJoinPool pool)
+            throws IOException {
+        return ParallelParser.parse(ByteBuffer.wrap(bytes), pool);
+    }
+
+    /**
+     * Reads UTF-8 encoded JSON file as a Java Object, like
+     * {@link #parse(Path)}, but elements of a top level array are
+     * parsed in parallel on the given pool.
+     *
+     * @see #parseParallel(byte[], ForkJoinPool)
+     * @param path - UTF-8 encoded file
+     * @param pool - pool to parse the elements
+     * @return object
+     * @throws IOException - throws io exception
+     */
+    static Object parseParallel(final Path path, final ForkJoinPool pool)
+            throws IOException {
+        try (FileChannel channel = FileChannel.open(path,
+                StandardOpenOption.READ)) {
+            final long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                return new Utf8Parser(Channels.newInputStream(channel))
+                        .parseDocument();
+            }
+            return ParallelParser.parse(channel.map(
+                    FileChannel.MapMode.READ_ONLY, 0, size), pool);
+        }
+    }
+
+    /**
+     * Reads consecutive JSON values, e.g. JSON Lines, as a Stream.
+     * Values are read lazily by one parser. When the stream is parallel,
+     * chunks of whole lines are parsed concurrently, so a value should
+     * not span lines. Closing the stream closes the reader.
+     *
+     * @param reader - file reader
+     * @return stream of values
+     */
+    static Stream<Object> lines(final Reader reader) {
+        return StreamSupport.stream(new JsonLines(new ReaderParser(reader)),
+                false).onClose(() -> close(reader));
+    }
+
+    /**
+     * Reads consecutive UTF-8 encoded JSON values as a Stream.
+     *
+     * @see #lines(Reader)
+     * @param inputStream - UTF-8 encoded stream
+     * @return stream of values
+     */
+    static Stream<Object> lines(final InputStream inputStream) {
+        return StreamSupport.stream(new JsonLines(
+                new Utf8Parser(inputStream)), false)
+                .onClose(() -> close(inputStream));
+    }
+
+    /**
+     * Reads consecutive JSON values of a UTF-8 encoded file as a Stream.
+     * File is memory mapped, unless it is beyond 2 GB.
+     *
+     * @see #lines(Reader)
+     * @param path - UTF-8 encoded file
+     * @return stream of values
+     * @throws IOException - throws io exception
+     */
+    static Stream<Object> lines(final Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path,
+                StandardOpenOption.READ)) {
+            final long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                return lines(Files.newInputStream(path));
+            }
+            return StreamSupport.stream(new JsonLines(new Utf8Parser(
+                    channel.map(FileChannel.MapMode.READ_ONLY, 0, size))),
+                    false);
+        }
+    }
+
+    /**
+     * Closes the content of a stream.
+     * @param closeable
+     */
+    private static void close(final Closeable closeable) {
+        try {
+            closeable.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
         }
     }
 
@@ -90,112 +377,162 @@ public sealed interface Json<T>
      * @return jsonText
      */
     static String jsonText(final Map<String, Object> jsonMap) {
-        return "{" + jsonMap.entrySet().stream()
-                .map(entry ->
-                        "\"" + escapeJsonTxt(entry.getKey()) + "\":"
-                        + stringify(entry.getValue()
-                        )).collect(Collectors.joining(",")) + "}";
+        return stringify(jsonMap);
     }
 
     /**
-     * Get Json Array Text for the List.
+     * Create Value in according to the Type.
      *
-     * @param jsonArray
-     * @return jsonTxt
+     * @param value
+     * @return valueText
      */
-    private static String jsonText(final List<Object> jsonArray) {
-        return "[" + jsonArray.stream()
-                .map(Json::stringify)
-                .collect(Collectors.joining(",")) + "]";
+    static String stringify(final Object value) {
+        final StringBuilder sb = new StringBuilder();
+        try {
+            write(value, sb);
+        } catch (IOException e) {
+            // StringBuilder does not throw
+            throw new UncheckedIOException(e);
+        }
+        return sb.toString();
     }
 
     /**
-     * Create Value in according to the Type.
+     * Writes Json text of the value into the sink, without
+     * creating intermediate Strings. Records, beans, enums and arrays
+     * are written by their properties and elements, without converting
+     * them into Maps and Lists.
      *
      * @param value
-     * @return valueText
+     * @param appendable - sink like StringBuilder or Writer
+     * @throws IOException - throws io exception
      */
-    static String stringify(final Object value) {
-        return switch (value) {
-            case null -> "null";
-            case String str -> "\"" + escapeJsonTxt(str) + "\"";
-            case Map map -> jsonText(map);
-            case List list -> jsonText(list);
-            default -> value.toString();
-        };
+    static void write(final Object value, final Appendable appendable)
+            throws IOException {
+        switch (value) {
+            case null -> appendable.append("null");
+            case String str -> {
+                appendable.append('"');
+                Escaper.escape(str, appendable);
+                appendable.append('"');
+            }
+            case Map<?, ?> map -> writeObject(map,
+                    NumberWriter.sink(appendable));
+            case Collection<?> list -> writeArray(list,
+                    NumberWriter.sink(appendable));
+            case Number number -> NumberWriter.write(number, appendable);
+            case Boolean bool -> appendable.append(bool.toString());
+            default -> TypedWriter.write(value,
+                    NumberWriter.sink(appendable));
+        }
+    }
+
+    /**
+     * Writes UTF-8 encoded Json text of the value into the stream.
+     * Stream is flushed but not closed.
+     *
+     * @param value
+     * @param outputStream
+     * @throws IOException - throws io exception
+     */
+    static void write(final Object value, final OutputStream outputStream)
+            throws IOException {
+        final Utf8Writer writer = new Utf8Writer(outputStream);
+        write(value, writer);
+        writer.flush();
     }
 
     /**
-     * Escape JSON Text.
-     * Escape quotes, \, /, \r, \n, \b, \f, \t
-     * and other control characters (U+0000 through U+001F).
-     * @param s
-     * @return escapeJsonTxt
+     * Writes UTF-8 encoded Json text of the value into the remaining
+     * bytes of the buffer, advancing its position.
+     *
+     * @param value
+     * @param byteBuffer
+     * @throws java.nio.BufferOverflowException - if text does not fit
      */
-    private static String escapeJsonTxt(final String s) {
-        if (s == null) {
-            return null;
+    static void write(final Object value, final ByteBuffer byteBuffer) {
+        final Utf8Writer writer = new Utf8Writer(byteBuffer);
+        try {
+            write(value, writer);
+            writer.flush();
+        } catch (IOException e) {
+            // ByteBuffer does not throw
+            throw new UncheckedIOException(e);
         }
-        StringBuilder sb = new StringBuilder();
-        escape(s, sb);
-        return sb.toString();
     }
 
     /**
-     * Escape Text.
-     * @param s - Must not be null.
-     * @param sb
+     * Gets UTF-8 encoded Json text of the value, without creating
+     * the text as String.
+     *
+     * @param value
+     * @return bytes
      */
-    private static void escape(final String s, final StringBuilder sb) {
-        final int len = s.length();
-        for (int i = 0; i < len; i++) {
-            char ch = s.charAt(i);
-            switch (ch) {
-                case '"':
-                    sb.append("\\\"");
-                    break;
-                case '\\':
-                    sb.append("\\\\");
-                    break;
-                case '\b':
-                    sb.append("\\b");
-                    break;
-                case '\f':
-                    sb.append("\\f");
-                    break;
-                case '\n':
-                    sb.append("\\n");
-                    break;
-                case '\r':
-                    sb.append("\\r");
-                    break;
-                case '\t':
-                    sb.append("\\t");
-                    break;
-                case '/':
-                    sb.append("\\/");
-                    break;
-                default:
-                    //Reference: http://www.unicode.org/versions/Unicode5.1.0/
-                    if (ch <= '\u001F' || ch >= '\u007F'
-                            && ch <= '\u009F' || ch >= '\u2000'
-                            && ch <= '\u20FF') {
-                        String ss = Integer.toHexString(ch);
-                        sb.append("\\u");
-                        sb.append("0".repeat(UNICODE_LENGTH - ss.length()));
-                        sb.append(ss.toUpperCase());
-                    } else {
-                        sb.append(ch);
-                    }
+    static byte[] toBytes(final Object value) {
+        final Utf8Writer writer = new Utf8Writer();
+        try {
+            write(value, writer);
+        } catch (IOException e) {
+            // Bytes are in memory
+            throw new UncheckedIOException(e);
+        }
+        return writer.toByteArray();
+    }
+
+    /**
+     * Writes Json text for the Map.
+     *
+     * @param jsonMap
+     * @param appendable
+     * @throws IOException
+     */
+    private static void writeObject(final Map<?, ?> jsonMap,
+                                    final Appendable appendable)
+            throws IOException {
+        appendable.append('{');
+        boolean first = true;
+        for (final Map.Entry<?, ?> entry : jsonMap.entrySet()) {
+            if (first) {
+                first = false;
+            } else {
+                appendable.append(',');
             }
+            KeyPrefixes.write(String.valueOf(entry.getKey()), appendable);
+            write(entry.getValue(), appendable);
         }
+        appendable.append('}');
+    }
+
+    /**
+     * Writes Json Array Text for the Collection.
+     *
+     * @param jsonArray
+     * @param appendable
+     * @throws IOException
+     */
+    private static void writeArray(final Collection<?> jsonArray,
+                                   final Appendable appendable)
+            throws IOException {
+        appendable.append('[');
+        boolean first = true;
+        for (final Object element : jsonArray) {
+            if (first) {
+                first = false;
+            } else {
+                appendable.append(',');
+            }
+            write(element, appendable);
+        }
+        appendable.append(']');
     }
 
     /**
      * Parser is responsible to interact with underlying reader to
-     * extract the content.
+     * extract the content. Implementations own a buffer over the
+     * content, either as chars or as UTF-8 bytes.
      */
-    final class Parser implements Json<Object> {
+    abstract sealed class Parser implements Json<Object>
+            permits ReaderParser, Utf8Parser {
 
         /**
          * Max Depth of an nested Object.
@@ -203,9 +540,9 @@ public sealed interface Json<T>
         public static final int DEFAULT_MAX_DEPTH = 1000;
 
         /**
-         * Reader to the JSON Content.
+         * Size of the buffer refilled from the content.
          */
-        private final Reader reader;
+        public static final int BUFFER_SIZE = 8192;
 
         /**
          * This holds current character from reader.
@@ -218,15 +555,157 @@ public sealed interface Json<T>
         private short objectDepth;
 
         /**
-         * Creates Content extracter for the reader.
-         *
-         * @param theReader
+         * Characters of the number being read. Reused across numbers.
+         */
+        private char[] numberBuffer;
+
+        /**
+         * Flag to read arrays of only integers or only decimals as
+         * lists backed by primitive arrays.
+         */
+        private boolean compactNumbers;
+
+        /**
+         * Cache of object field names. Null for no caching.
+         */
+        private KeyCache keyCache = KeyCache.getDefault();
+
+        /**
+         * Flag for cursor holding a character read beyond the last
+         * value by {@link #parseNext()}.
+         */
+        private boolean lookahead;
+
+        /**
+         * Characters read by {@link #next(int)}. Reused across calls.
+         */
+        private final char[] nextBuffer = new char[UNICODE_LENGTH];
+
+        /**
+         * Builder of strings with escapes. Reused across strings.
          */
-        Parser(final Reader theReader) {
-            this.reader = theReader;
+        private StringBuilder stringBuilder;
+
+        /**
+         * Creates Content extracter.
+         */
+        Parser() {
             this.objectDepth = 0;
         }
 
+        /**
+         * Resets the state of a document. Scratch buffers and options
+         * are kept for the next document.
+         */
+        void reset() {
+            this.cursor = 0;
+            this.objectDepth = 0;
+            this.lookahead = false;
+        }
+
+        /**
+         * Reads next of consecutive top level values, e.g. JSON Lines.
+         * @return value, or this parser at the end of content
+         * @throws IOException
+         */
+        Object parseNext() throws IOException {
+            final char character = lookahead ? cursor : nextClean();
+            lookahead = false;
+            if (character == (char) -1) {
+                return this;
+            }
+            final Object value;
+            if (Character.isDigit(character)
+                    || character == '+' || character == '-') {
+                // Number may end at the end of content
+                setCursor((char) -1);
+                value = JsonNumber.value(this, character);
+                lookahead = true;
+            } else {
+                value = parseValue(character);
+                if (value == this) {
+                    throw new IllegalArgumentException(ILLEGAL_JSON_VALUE);
+                }
+            }
+            return value;
+        }
+
+        /**
+         * Checks if there is a value after the last value read by
+         * {@link #parseNext()}, skipping the white spaces.
+         * @return false at the end of content
+         * @throws IOException
+         */
+        boolean hasNext() throws IOException {
+            if (!lookahead) {
+                setCursor(nextClean());
+                lookahead = true;
+            }
+            return cursor != (char) -1;
+        }
+
+        /**
+         * Takes the character read beyond the last value by
+         * {@link #parseNext()}.
+         * @return character, or -1 if there is none
+         */
+        int takeLookahead() {
+            final boolean pending = lookahead && cursor != (char) -1;
+            lookahead = false;
+            return pending ? cursor : -1;
+        }
+
+        /**
+         * Takes content of whole lines, that follows the last value read
+         * by {@link #parseNext()}, for another parser. So that lines can
+         * be parsed in parallel.
+         * If rest of the content is shorter than minLength, it is kept
+         * by this parser.
+         * @param minLength - lines are taken till this length is reached
+         * @return parser of the lines, or null if content is kept
+         * @throws IOException
+         */
+        abstract Parser split(int minLength) throws IOException;
+
+        /**
+         * Sets options of this parser to the other parser.
+         * @param other
+         * @return other parser
+         */
+        Parser inherit(final Parser other) {
+            other.keyCache = keyCache;
+            other.compactNumbers = compactNumbers;
+            return other;
+        }
+
+        /**
+         * Reads a complete value, which can not be the end of an array.
+         * @return value
+         * @throws IOException
+         */
+        Object parseDocument() throws IOException {
+            final Object value = parseValue();
+            if (value == this) {
+                throw new IllegalArgumentException(ILLEGAL_JSON_VALUE);
+            }
+            return value;
+        }
+
+        /**
+         * Gets an empty builder for the string being read. It is reused
+         * across strings unless it grew beyond {@link #BUFFER_SIZE}.
+         * @return string builder
+         */
+        public StringBuilder stringBuilder() {
+            if (stringBuilder == null
+                    || stringBuilder.capacity() > BUFFER_SIZE) {
+                stringBuilder = new StringBuilder();
+            } else {
+                stringBuilder.setLength(0);
+            }
+            return stringBuilder;
+        }
+
         /**
          * Called when new Object starts.
          */
@@ -265,6 +744,55 @@ public sealed interface Json<T>
             this.objectDepth--;
         }
 
+        /**
+         * Gets buffer for the characters of a number. It is reused
+         * across numbers and contents are kept when it grows.
+         * @param minLength
+         * @return buffer of at least minLength
+         */
+        public char[] numberBuffer(final int minLength) {
+            if (numberBuffer == null) {
+                numberBuffer = new char[minLength];
+            } else if (numberBuffer.length < minLength) {
+                numberBuffer = Arrays.copyOf(numberBuffer, minLength);
+            }
+            return numberBuffer;
+        }
+
+        /**
+         * Reads arrays of only integers or only decimals as lists backed
+         * by primitive arrays.
+         * @see com.techatpark.sjson.element.LongList
+         * @see com.techatpark.sjson.element.DoubleList
+         */
+        void compactNumbers() {
+            this.compactNumbers = true;
+        }
+
+        /**
+         * Checks if number arrays are read as primitive backed lists.
+         * @return flag
+         */
+        public boolean isCompactNumbers() {
+            return compactNumbers;
+        }
+
+        /**
+         * Sets cache of object field names.
+         * @param theKeyCache - null for no caching
+         */
+        void keyCache(final KeyCache theKeyCache) {
+            this.keyCache = theKeyCache;
+        }
+
+        /**
+         * Gets cache of object field names.
+         * @return key cache or null
+         */
+        KeyCache keyCache() {
+            return keyCache;
+        }
+
         /**
          * Entry Method for extraction. This will
          * 1. move to the first clean character to determine the Data type
@@ -289,7 +817,45 @@ public sealed interface Json<T>
                 default -> {
                     if (Character.isDigit(character)
                             || character == '+' || character == '-') {
-                        yield new JsonNumber(this, reader, character);
+                        yield new JsonNumber(this, character);
+                    }
+                    throw new IllegalArgumentException(ILLEGAL_JSON_VALUE);
+                }
+            };
+        }
+
+        /**
+         * Extracts the value directly as native java object, without
+         * creating the intermediate Json elements.
+         * Returns this parser at the end of an array, like {@link #parse()}.
+         *
+         * @return object
+         * @throws IOException
+         */
+        public Object parseValue() throws IOException {
+            return parseValue(nextClean());
+        }
+
+        /**
+         * Extracts the value starting with the character.
+         * @param character - first clean character of the value
+         * @return object, or this parser at the end of an array
+         * @throws IOException
+         */
+        public Object parseValue(final char character) throws IOException {
+            setCursor(character);
+            return switch (character) {
+                case '"' -> JsonString.value(this);
+                case 'n' -> JsonNull.value(this);
+                case 't' -> JsonBoolean.value(this, true);
+                case 'f' -> JsonBoolean.value(this, false);
+                case '{' -> JsonObject.value(this);
+                case '[' -> JsonArray.value(this);
+                case ']' -> this;
+                default -> {
+                    if (Character.isDigit(character)
+                            || character == '+' || character == '-') {
+                        yield JsonNumber.value(this, character);
                     }
                     throw new IllegalArgumentException(ILLEGAL_JSON_VALUE);
                 }
@@ -297,10 +863,67 @@ public sealed interface Json<T>
         }
 
         /**
-         * Sets Cursor to next clean Character.
+         * Skips the value starting with the character, without building
+         * it. Objects and arrays are scanned for their end, tracking only
+         * the bracket depth and strings, so their contents are trusted.
+         * @param character - first clean character of the value
+         * @return next clean character after the value
+         * @throws IOException
+         * @throws IllegalArgumentException if the value is not valid
+         */
+        public char skipValue(final char character) throws IOException {
+            switch (character) {
+                case '"' -> skip(0);
+                case '{', '[' -> skip(1);
+                case 't' -> JsonBoolean.value(this, true);
+                case 'f' -> JsonBoolean.value(this, false);
+                case 'n' -> JsonNull.value(this);
+                default -> {
+                    if (Character.isDigit(character)
+                            || character == '+' || character == '-') {
+                        return skipNumber();
+                    }
+                    throw new IllegalArgumentException(ILLEGAL_JSON_VALUE);
+                }
+            }
+            return nextClean();
+        }
+
+        /**
+         * Skips rest of a number.
+         * @return next clean character after the number
+         * @throws IOException
+         */
+        private char skipNumber() throws IOException {
+            int character;
+            do {
+                character = nextCharacter();
+            } while (character >= '0' && character <= '9'
+                    || character == '.'
+                    || character == 'e' || character == 'E'
+                    || character == '-' || character == '+');
+            if (character == -1) {
+                return (char) -1;
+            }
+            return isSpace((char) character) ? nextClean() : (char) character;
+        }
+
+        /**
+         * Skips rest of a string, or of objects and arrays, till the
+         * end. Only quotes, escapes and brackets are looked at.
+         * @param depth - open objects and arrays, 0 inside a string
+         * @throws IOException
+         * @throws IllegalArgumentException if EOF
+         */
+        abstract void skip(int depth) throws IOException;
+
+        /**
+         * Sets Cursor to next clean Character, at the end of an Object
+         * or Array. Nothing is read beyond a top level value, so that a
+         * stream can be read again for its next value.
          */
         public void setCursorToNextClean() throws IOException {
-            setCursor(nextClean());
+            setCursor(objectDepth == 1 ? (char) -1 : nextClean());
         }
 
         /**
@@ -324,24 +947,27 @@ public sealed interface Json<T>
          * @return valid character
          * @throws IOException
          */
-        public char nextClean() throws IOException {
-            char character;
-            do {
-                character = (char) reader.read();
-            } while (isSpace(character));
-            return character;
-        }
+        public abstract char nextClean() throws IOException;
 
         /**
          * Reads next chars for given length
          * from the reader and fill an char array.
-         * @param length
+         * The array is reused by next call, and is zero filled
+         * beyond the end of content.
+         * @param length - at most {@link #UNICODE_LENGTH}
          * @return char array
          * @throws IOException
          */
         public char[] next(final int length) throws IOException {
-            char[] cbuf = new char[length];
-            reader.read(cbuf, 0, length);
+            final char[] cbuf = nextBuffer;
+            for (int i = 0; i < length; i++) {
+                final int value = nextCharacter();
+                if (value == -1) {
+                    Arrays.fill(cbuf, i, length, (char) 0);
+                    break;
+                }
+                cbuf[i] = (char) value;
+            }
             return cbuf;
         }
 
@@ -350,26 +976,49 @@ public sealed interface Json<T>
          * @throws IllegalArgumentException if EOF
          * @return char value
          */
-        public char getCharacter() throws IOException {
-            final int value = reader.read();
-            if (value == -1) {
-                throw new IllegalArgumentException(ILLEGAL_JSON_VALUE);
-            }
-            return (char) value;
-        }
+        public abstract char getCharacter() throws IOException;
+
+        /**
+         * Reads next character.
+         * @return char value or -1 if EOF
+         * @throws IOException
+         */
+        public abstract int nextCharacter() throws IOException;
+
+        /**
+         * Reads rest of a string when its closing quote is already
+         * buffered and there are no escapes before it.
+         * Nothing is consumed when it returns null.
+         * @return string or null
+         */
+        public abstract String nextSimpleString();
+
+        /**
+         * Reads rest of an object field name, like
+         * {@link #nextSimpleString()}, through the key cache.
+         * Nothing is consumed when it returns null.
+         * @return field name or null
+         */
+        public abstract String nextSimpleKey();
+
+        /**
+         * Appends characters of a string till the closing quote or
+         * an escape character.
+         * @param sb
+         * @return the quote or escape character
+         * @throws IOException
+         * @throws IllegalArgumentException if EOF
+         */
+        public abstract char nextStringPart(StringBuilder sb)
+                throws IOException;
 
         /**
          * Skip Spaces and land reader at the valid character.
          * @param character
          * @throws IOException
+         * @throws IllegalArgumentException if EOF
          */
-        public void next(
-                                final char character) throws IOException {
-            int charVal;
-            do {
-                charVal = (char) reader.read();
-            } while (charVal != character);
-        }
+        public abstract void next(char character) throws IOException;
 
         /**
          * Determines if this is a space charecter.
@@ -385,7 +1034,7 @@ public sealed interface Json<T>
         }
 
         @Override
-        public Object read() {
+        public final Object read() {
             throw new UnsupportedOperationException("Can not read Object "
                     + "from context extractor");
         }
@@ -0,0 +1,834 @@
+package com.techatpark.sjson;
+
+import com.techatpark.sjson.element.JsonNumber;
+import com.techatpark.sjson.element.JsonString;
+
+import java.io.IOException;
+import java.lang.reflect.Array;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.RecordComponent;
+import java.lang.reflect.Type;
+import java.lang.reflect.WildcardType;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Binds JSON directly into records, sealed types of records, enums,
+ * collections and scalars, without building the Maps and Lists of
+ * {@link Json#parse(java.io.Reader)} in between.
+ * <p>
+ * Binders are created once per type by reflection and cached. Object
+ * fields are matched to record components by name while scanning, and
+ * values go straight into the constructor arguments. Unknown fields are
+ * skipped and missing ones are left null, zero or false.
+ * <p>
+ * A sealed type is bound to the record named by a leading
+ * {@value #TYPE_FIELD} field, with the simple name of the record.
+ */
+final class JsonBinder {
+
+    /**
+     * Field that names the record of a sealed type.
+     */
+    static final String TYPE_FIELD = "@type";
+
+    /**
+     * Binders by type.
+     */
+    private static final ClassValue<Binder> BINDERS = new ClassValue<>() {
+        @Override
+        protected Binder computeValue(final Class<?> type) {
+            return create(type);
+        }
+    };
+
+    /**
+     * Binder of Object, which reads native java objects.
+     */
+    private static final Binder VALUE = new Binder() {
+        @Override
+        Object read(final Json.Parser parser, final char character)
+                throws IOException {
+            return value(parser, character);
+        }
+    };
+
+    /**
+     * Binder of String.
+     */
+    private static final Binder STRING = new Binder() {
+        @Override
+        Object read(final Json.Parser parser, final char character)
+                throws IOException {
+            return string(parser, character);
+        }
+    };
+
+    private JsonBinder() {
+    }
+
+    /**
+     * Reads the document as the type.
+     * @param parser
+     * @param type
+     * @param <T> type of the value
+     * @return value
+     * @throws IOException
+     */
+    @SuppressWarnings("unchecked")
+    static <T> T read(final Json.Parser parser, final Class<T> type)
+            throws IOException {
+        return (T) BINDERS.get(type).read(parser, parser.nextClean());
+    }
+
+    /**
+     * Creates binder of the class.
+     * @param type
+     * @return binder
+     * @throws UnsupportedOperationException if type can not be bound
+     */
+    private static Binder create(final Class<?> type) {
+        if (type == Object.class) {
+            return VALUE;
+        }
+        if (type == String.class || type == CharSequence.class) {
+            return STRING;
+        }
+        if (type == boolean.class || type == Boolean.class) {
+            return new Scalar(Boolean.class, Function.identity(),
+                    type.isPrimitive() ? Boolean.FALSE : null);
+        }
+        if (type.isPrimitive() || Number.class.isAssignableFrom(type)) {
+            return number(type);
+        }
+        if (type.isEnum()) {
+            return new EnumBinder(type);
+        }
+        if (type.isRecord()) {
+            return new RecordBinder(type);
+        }
+        if (type.isSealed()) {
+            return new SealedBinder(type);
+        }
+        if (type.isArray()) {
+            return new ArrayBinder(type.getComponentType());
+        }
+        if (type == Map.class) {
+            return new MapBinder(Object.class);
+        }
+        if (type == List.class || type == Collection.class
+                || type == Iterable.class || type == Set.class) {
+            return new CollectionBinder(type == Set.class, Object.class);
+        }
+        throw new UnsupportedOperationException("Can not bind " + type);
+    }
+
+    /**
+     * Creates binder of a number type.
+     * @param type
+     * @return binder
+     */
+    private static Binder number(final Class<?> type) {
+        final Function<Number, Object> convert;
+        final Object empty;
+        if (type == int.class || type == Integer.class) {
+            convert = number -> (int) exact(number, type,
+                    Integer.MIN_VALUE, Integer.MAX_VALUE);
+            empty = 0;
+        } else if (type == long.class || type == Long.class) {
+            convert = number -> exact(number, type,
+                    Long.MIN_VALUE, Long.MAX_VALUE);
+            empty = 0L;
+        } else if (type == double.class || type == Double.class) {
+            convert = number -> {
+                final double value = number.doubleValue();
+                if (Double.isInfinite(value)) {
+                    throw new IllegalArgumentException(
+                            notFit(number, type));
+                }
+                return value;
+            };
+            empty = 0.0;
+        } else if (type == float.class || type == Float.class) {
+            convert = number -> {
+                final float value = number.floatValue();
+                if (Float.isInfinite(value)) {
+                    throw new IllegalArgumentException(
+                            notFit(number, type));
+                }
+                return value;
+            };
+            empty = 0.0f;
+        } else if (type == short.class || type == Short.class) {
+            convert = number -> (short) exact(number, type,
+                    Short.MIN_VALUE, Short.MAX_VALUE);
+            empty = (short) 0;
+        } else if (type == byte.class || type == Byte.class) {
+            convert = number -> (byte) exact(number, type,
+                    Byte.MIN_VALUE, Byte.MAX_VALUE);
+            empty = (byte) 0;
+        } else if (type == BigDecimal.class) {
+            convert = number -> number instanceof BigDecimal
+                    ? number : new BigDecimal(number.toString());
+            empty = null;
+        } else if (type == BigInteger.class) {
+            convert = number -> {
+                if (number instanceof BigInteger) {
+                    return number;
+                }
+                try {
+                    return new BigDecimal(number.toString())
+                            .toBigIntegerExact();
+                } catch (final ArithmeticException e) {
+                    throw new IllegalArgumentException(
+                            notFit(number, type), e);
+                }
+            };
+            empty = null;
+        } else if (type == Number.class) {
+            convert = number -> number;
+            empty = null;
+        } else {
+            throw new UnsupportedOperationException("Can not bind " + type);
+        }
+        return new Scalar(Number.class, value -> convert.apply(
+                (Number) value), type.isPrimitive() ? empty : null);
+    }
+
+    /**
+     * Gets the integer value of a number, which must have no fraction
+     * and must be in the range.
+     * @param number
+     * @param type - type to bind
+     * @param min
+     * @param max
+     * @return value
+     * @throws IllegalArgumentException if it does not fit
+     */
+    private static long exact(final Number number, final Class<?> type,
+                              final long min, final long max) {
+        long value;
+        if (number instanceof Byte || number instanceof Short
+                || number instanceof Integer || number instanceof Long) {
+            value = number.longValue();
+        } else {
+            try {
+                value = (number instanceof BigDecimal decimal ? decimal
+                        : new BigDecimal(number.toString()))
+                        .longValueExact();
+            } catch (final ArithmeticException e) {
+                throw new IllegalArgumentException(
+                        notFit(number, type), e);
+            }
+        }
+        if (value < min || value > max) {
+            throw new IllegalArgumentException(notFit(number, type));
+        }
+        return value;
+    }
+
+    /**
+     * Gets message of a number that does not fit the type.
+     * @param number
+     * @param type
+     * @return message
+     */
+    private static String notFit(final Number number, final Class<?> type) {
+        return "Number " + number + " does not fit " + type.getName();
+    }
+
+    /**
+     * Gets binder of a declared type. Records and sealed types are
+     * resolved on first read, so that they can refer to themselves.
+     * @param type
+     * @return binder
+     */
+    private static Binder binder(final Type type) {
+        if (type instanceof Class<?> cls) {
+            return cls.isRecord() || cls.isSealed()
+                    ? new Lazy(cls) : BINDERS.get(cls);
+        }
+        if (type instanceof ParameterizedType parameterized) {
+            final Class<?> raw = (Class<?>) parameterized.getRawType();
+            final Type[] arguments = parameterized
+                    .getActualTypeArguments();
+            if (raw == Map.class) {
+                return new MapBinder(arguments[1]);
+            }
+            if (raw == List.class || raw == Collection.class
+                    || raw == Iterable.class || raw == Set.class) {
+                return new CollectionBinder(raw == Set.class, arguments[0]);
+            }
+            return binder(raw);
+        }
+        if (type instanceof WildcardType wildcard) {
+            return binder(wildcard.getUpperBounds()[0]);
+        }
+        // Type variables are read as they are
+        return VALUE;
+    }
+
+    /**
+     * Reads a native java object, as {@link Json#parse(java.io.Reader)}.
+     * @param parser
+     * @param character
+     * @return value
+     * @throws IOException
+     */
+    private static Object value(final Json.Parser parser,
+                                final char character) throws IOException {
+        if (Character.isDigit(character)
+                || character == '+' || character == '-') {
+            // Number ends by reading next clean character
+            parser.setCursor((char) -1);
+            return JsonNumber.value(parser, character);
+        }
+        final Object value = parser.parseValue(character);
+        if (value == parser) {
+            throw new IllegalArgumentException(Json.ILLEGAL_JSON_VALUE);
+        }
+        if (character != '{' && character != '[') {
+            parser.setCursor(parser.nextClean());
+        }
+        return value;
+    }
+
+    /**
+     * Reads a string or null.
+     * @param parser
+     * @param character
+     * @return string
+     * @throws IOException
+     */
+    private static String string(final Json.Parser parser,
+                                 final char character) throws IOException {
+        final Object value = value(parser, character);
+        if (value == null || value instanceof String) {
+            return (String) value;
+        }
+        throw new IllegalArgumentException(Json.ILLEGAL_JSON_VALUE);
+    }
+
+    /**
+     * Reads the null literal, if the value is null.
+     * @param parser
+     * @param character
+     * @return true if the value was null
+     * @throws IOException
+     */
+    private static boolean isNull(final Json.Parser parser,
+                                  final char character) throws IOException {
+        if (character != 'n') {
+            return false;
+        }
+        value(parser, character);
+        return true;
+    }
+
+    /**
+     * Checks the separator after a value of an object or array.
+     * @param parser
+     * @param end - closing character of the container
+     * @return true at the end of the container
+     */
+    private static boolean endOf(final Json.Parser parser, final char end) {
+        final char character = parser.getCursor();
+        if (character == end) {
+            return true;
+        }
+        if (character != ',') {
+            throw new IllegalArgumentException(Json.ILLEGAL_JSON_VALUE);
+        }
+        return false;
+    }
+
+    /**
+     * Reads a field name and its colon.
+     * @param parser
+     * @param character - first clean character of the field
+     * @return field name
+     * @throws IOException
+     */
+    private static String key(final Json.Parser parser,
+                              final char character) throws IOException {
+        if (character != '"') {
+            throw new IllegalArgumentException(Json.ILLEGAL_JSON_VALUE);
+        }
+        final String key = JsonString.key(parser);
+        if (parser.nextClean() != ':') {
+            throw new IllegalArgumentException(Json.ILLEGAL_JSON_VALUE);
+        }
+        return key;
+    }
+
+    /**
+     * Reads a value as a type. After reading, the cursor of the parser
+     * is the next clean character after the value.
+     */
+    abstract static class Binder {
+
+        /**
+         * Reads the value starting with the character.
+         * @param parser
+         * @param character - first clean character of the value
+         * @return value
+         * @throws IOException
+         */
+        abstract Object read(Json.Parser parser, char character)
+                throws IOException;
+    }
+
+    /**
+     * Binder of booleans and numbers, converted from the native value.
+     */
+    private static final class Scalar extends Binder {
+
+        /**
+         * Type of the native value.
+         */
+        private final Class<?> nativeType;
+
+        /**
+         * Conversion of the native value.
+         */
+        private final Function<Object, Object> convert;
+
+        /**
+         * Value of null, for primitives.
+         */
+        private final Object empty;
+
+        /**
+         * Creates binder.
+         * @param theNativeType
+         * @param theConvert
+         * @param theEmpty
+         */
+        Scalar(final Class<?> theNativeType,
+               final Function<Object, Object> theConvert,
+               final Object theEmpty) {
+            this.nativeType = theNativeType;
+            this.convert = theConvert;
+            this.empty = theEmpty;
+        }
+
+        @Override
+        Object read(final Json.Parser parser, final char character)
+                throws IOException {
+            final Object value = value(parser, character);
+            if (value == null) {
+                return empty;
+            }
+            if (!nativeType.isInstance(value)) {
+                throw new IllegalArgumentException(Json.ILLEGAL_JSON_VALUE);
+            }
+            return convert.apply(value);
+        }
+    }
+
+    /**
+     * Binder of enums, by their names.
+     */
+    private static final class EnumBinder extends Binder {
+
+        /**
+         * Constants by name.
+         */
+        private final Map<String, Object> constants = new HashMap<>();
+
+        /**
+         * Creates binder.
+         * @param type
+         */
+        EnumBinder(final Class<?> type) {
+            for (final Object constant : type.getEnumConstants()) {
+                constants.put(((Enum<?>) constant).name(), constant);
+            }
+        }
+
+        @Override
+        Object read(final Json.Parser parser, final char character)
+                throws IOException {
+            final String name = string(parser, character);
+            if (name == null) {
+                return null;
+            }
+            final Object constant = constants.get(name);
+            if (constant == null) {
+                throw new IllegalArgumentException(Json.ILLEGAL_JSON_VALUE
+                        + name);
+            }
+            return constant;
+        }
+    }
+
+    /**
+     * Binder of records, through the canonical constructor.
+     */
+    private static final class RecordBinder extends Binder {
+
+        /**
+         * Canonical constructor.
+         */
+        private final Constructor<?> constructor;
+
+        /**
+         * Component indexes by name.
+         */
+        private final Map<String, Integer> indexes = new HashMap<>();
+
+        /**
+         * Binders of the components.
+         */
+        private final Binder[] binders;
+
+        /**
+         * Default arguments. Zero or false for primitives.
+         */
+        private final Object[] defaults;
+
+        /**
+         * Creates binder.
+         * @param type
+         */
+        RecordBinder(final Class<?> type) {
+            final RecordComponent[] components = type.getRecordComponents();
+            final Class<?>[] types = new Class<?>[components.length];
+            binders = new Binder[components.length];
+            defaults = new Object[components.length];
+            for (int i = 0; i < components.length; i++) {
+                types[i] = components[i].getType();
+                indexes.put(components[i].getName(), i);
+                binders[i] = binder(components[i].getGenericType());
+                if (types[i].isPrimitive()) {
+                    defaults[i] = BINDERS.get(types[i]) instanceof Scalar
+                            scalar ? scalar.empty : null;
+                }
+            }
+            try {
+                constructor = type.getDeclaredConstructor(types);
+            } catch (final NoSuchMethodException e) {
+                throw new UnsupportedOperationException("Can not bind "
+                        + type, e);
+            }
+            constructor.trySetAccessible();
+        }
+
+        @Override
+        Object read(final Json.Parser parser, final char character)
+                throws IOException {
+            if (isNull(parser, character)) {
+                return null;
+            }
+            if (character != '{') {
+                throw new IllegalArgumentException(Json.ILLEGAL_JSON_VALUE);
+            }
+            parser.startObject();
+            return fields(parser, parser.nextClean());
+        }
+
+        /**
+         * Reads fields of an object, till its end.
+         * @param parser
+         * @param first - first clean character of the fields
+         * @return record
+         * @throws IOException
+         */
+        Object fields(final Json.Parser parser, final char first)
+                throws IOException {
+            final Object[] arguments = defaults.clone();
+            char character = first;
+            if (character != '}') {
+                for (;;) {
+                    final Integer index = indexes.get(key(parser, character));
+                    character = parser.nextClean();
+                    if (index == null) {
+                        parser.setCursor(parser.skipValue(character));
+                    } else {
+                        final Object value = binders[index]
+                                .read(parser, character);
+                        if (value != null) {
+                            arguments[index] = value;
+                        }
+                    }
+                    if (endOf(parser, '}')) {
+                        break;
+                    }
+                    character = parser.nextClean();
+                }
+            }
+            parser.endObject();
+            parser.setCursor(parser.nextClean());
+            return create(arguments);
+        }
+
+        /**
+         * Creates record of the arguments.
+         * @param arguments
+         * @return record
+         */
+        private Object create(final Object[] arguments) {
+            try {
+                return constructor.newInstance(arguments);
+            } catch (final InvocationTargetException e) {
+                if (e.getCause() instanceof RuntimeException runtime) {
+                    throw runtime;
+                }
+                throw new IllegalArgumentException(e.getCause());
+            } catch (final ReflectiveOperationException e) {
+                throw new UnsupportedOperationException("Can not bind "
+                        + constructor.getDeclaringClass(), e);
+            }
+        }
+    }
+
+    /**
+     * Binder of sealed types, to the record named by the type field.
+     */
+    private static final class SealedBinder extends Binder {
+
+        /**
+         * Permitted records by simple name.
+         */
+        private final Map<String, Class<?>> records = new HashMap<>();
+
+        /**
+         * Creates binder.
+         * @param type
+         */
+        SealedBinder(final Class<?> type) {
+            permit(type);
+        }
+
+        /**
+         * Adds the records permitted by the type and its sealed subtypes.
+         * @param type
+         */
+        private void permit(final Class<?> type) {
+            for (final Class<?> subtype : type.getPermittedSubclasses()) {
+                if (subtype.isRecord()) {
+                    records.put(subtype.getSimpleName(), subtype);
+                } else if (subtype.isSealed()) {
+                    permit(subtype);
+                } else {
+                    throw new UnsupportedOperationException("Can not bind "
+                            + subtype);
+                }
+            }
+        }
+
+        @Override
+        Object read(final Json.Parser parser, final char character)
+                throws IOException {
+            if (isNull(parser, character)) {
+                return null;
+            }
+            if (character != '{') {
+                throw new IllegalArgumentException(Json.ILLEGAL_JSON_VALUE);
+            }
+            parser.startObject();
+            if (!TYPE_FIELD.equals(key(parser, parser.nextClean()))) {
+                throw new IllegalArgumentException(Json.ILLEGAL_JSON_VALUE
+                        + "object without leading " + TYPE_FIELD);
+            }
+            final String name = string(parser, parser.nextClean());
+            final Class<?> type = records.get(name);
+            if (type == null) {
+                throw new IllegalArgumentException(Json.ILLEGAL_JSON_VALUE
+                        + name);
+            }
+            final RecordBinder binder = (RecordBinder) BINDERS.get(type);
+            return binder.fields(parser, endOf(parser, '}')
+                    ? '}' : parser.nextClean());
+        }
+    }
+
+    /**
+     * Binder of a record or sealed type, resolved on first read.
+     */
+    private static final class Lazy extends Binder {
+
+        /**
+         * Type to bind.
+         */
+        private final Class<?> type;
+
+        /**
+         * Creates binder.
+         * @param theType
+         */
+        Lazy(final Class<?> theType) {
+            this.type = theType;
+        }
+
+        @Override
+        Object read(final Json.Parser parser, final char character)
+                throws IOException {
+            return BINDERS.get(type).read(parser, character);
+        }
+    }
+
+    /**
+     * Binder of arrays, as Lists or Sets of the elements.
+     */
+    private static final class CollectionBinder extends Binder {
+
+        /**
+         * Flag to read as Set.
+         */
+        private final boolean set;
+
+        /**
+         * Binder of the elements.
+         */
+        private final Binder element;
+
+        /**
+         * Creates binder.
+         * @param isSet
+         * @param elementType
+         */
+        CollectionBinder(final boolean isSet, final Type elementType) {
+            this.set = isSet;
+            this.element = binder(elementType);
+        }
+
+        @Override
+        Object read(final Json.Parser parser, final char character)
+                throws IOException {
+            if (isNull(parser, character)) {
+                return null;
+            }
+            final List<Object> list = elements(parser, character, element);
+            return set ? new LinkedHashSet<>(list) : list;
+        }
+    }
+
+    /**
+     * Binder of java arrays.
+     */
+    private static final class ArrayBinder extends Binder {
+
+        /**
+         * Type of the elements.
+         */
+        private final Class<?> componentType;
+
+        /**
+         * Binder of the elements.
+         */
+        private final Binder element;
+
+        /**
+         * Creates binder.
+         * @param theComponentType
+         */
+        ArrayBinder(final Class<?> theComponentType) {
+            this.componentType = theComponentType;
+            this.element = binder(theComponentType);
+        }
+
+        @Override
+        Object read(final Json.Parser parser, final char character)
+                throws IOException {
+            if (isNull(parser, character)) {
+                return null;
+            }
+            final List<Object> list = elements(parser, character, element);
+            final Object array = Array.newInstance(componentType,
+                    list.size());
+            for (int i = 0; i < list.size(); i++) {
+                Array.set(array, i, list.get(i));
+            }
+            return array;
+        }
+    }
+
+    /**
+     * Reads elements of an array.
+     * @param parser
+     * @param character - first clean character of the array
+     * @param element - binder of the elements
+     * @return elements
+     * @throws IOException
+     */
+    private static List<Object> elements(final Json.Parser parser,
+                                         final char character,
+                                         final Binder element)
+            throws IOException {
+        if (character != '[') {
+            throw new IllegalArgumentException(Json.ILLEGAL_JSON_VALUE);
+        }
+        parser.startArray();
+        final List<Object> list = new ArrayList<>();
+        char next = parser.nextClean();
+        if (next != ']') {
+            for (;;) {
+                list.add(element.read(parser, next));
+                if (endOf(parser, ']')) {
+                    break;
+                }
+                next = parser.nextClean();
+            }
+        }
+        parser.endArray();
+        parser.setCursor(parser.nextClean());
+        return list;
+    }
+
+    /**
+     * Binder of objects as Maps of the values.
+     */
+    private static final class MapBinder extends Binder {
+
+        /**
+         * Binder of the values.
+         */
+        private final Binder element;
+
+        /**
+         * Creates binder.
+         * @param valueType
+         */
+        MapBinder(final Type valueType) {
+            this.element = binder(valueType);
+        }
+
+        @Override
+        Object read(final Json.Parser parser, final char character)
+                throws IOException {
+            if (isNull(parser, character)) {
+                return null;
+            }
+            if (character != '{') {
+                throw new IllegalArgumentException(Json.ILLEGAL_JSON_VALUE);
+            }
+            parser.startObject();
+            final Map<String, Object> map = new HashMap<>();
+            char next = parser.nextClean();
+            if (next != '}') {
+                for (;;) {
+                    final String key = key(parser, next);
+                    map.put(key, element.read(parser, parser.nextClean()));
+                    if (endOf(parser, '}')) {
+                        break;
+                    }
+                    next = parser.nextClean();
+                }
+            }
+            parser.endObject();
+            parser.setCursor(parser.nextClean());
+            return map;
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.techatpark.sjson;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.util.NoSuchElementException;
+
+/**
+ * Reads consecutive JSON values (documents) from one stream, e.g. a
+ * socket or a log. Values need not be framed; they are read one after
+ * another by the same parser, whose buffer is kept between them.
+ * <p>
+ * Nothing is read beyond an object, array, string or literal, so
+ * {@link #next()} returns as soon as the value is complete. A number
+ * ends only at the next character, or at the end of content.
+ * <p>
+ * The stream is not closed and remains owned by the caller. It is not
+ * thread safe.
+ */
+public final class JsonDocuments {
+
+    /**
+     * Parser of the values.
+     */
+    private final Json.Parser parser;
+
+    /**
+     * Creates Json Documents for the reader.
+     * @param reader
+     */
+    public JsonDocuments(final Reader reader) {
+        this.parser = new ReaderParser(reader);
+    }
+
+    /**
+     * Creates Json Documents for the UTF-8 encoded stream.
+     * @param inputStream
+     */
+    public JsonDocuments(final InputStream inputStream) {
+        this.parser = new Utf8Parser(inputStream);
+    }
+
+    /**
+     * Checks if there is a next value, skipping white spaces.
+     * It waits for content when a stream has none yet.
+     * @return false at the end of content
+     * @throws IOException
+     */
+    public boolean hasNext() throws IOException {
+        return parser.hasNext();
+    }
+
+    /**
+     * Reads the next value.
+     * @return value
+     * @throws IOException
+     * @throws NoSuchElementException at the end of content
+     * @throws IllegalArgumentException if content is not valid json
+     */
+    public Object next() throws IOException {
+        if (!parser.hasNext()) {
+            throw new NoSuchElementException();
+        }
+        return parser.parseNext();
+    }
+}
@@ -0,0 +1,315 @@
+package com.techatpark.sjson;
+
+import com.techatpark.sjson.element.JsonString;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.util.AbstractList;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.RandomAccess;
+import java.util.Set;
+
+/**
+ * Reads JSON into lazy views over its characters. The content is read
+ * once into a char array, and an object or array is indexed only when
+ * it is reached: field names are read, and values are skipped by
+ * scanning their characters, keeping their offsets. A value is read
+ * from its offset on first access and cached, so strings, numbers and
+ * nested containers that are never accessed are never created.
+ * <p>
+ * Values are validated when they are read, so invalid content inside a
+ * value that is never accessed is not reported. Views are not thread
+ * safe.
+ */
+final class JsonLazy {
+
+    /**
+     * Initial number of values of an object or array.
+     */
+    private static final int INITIAL_CAPACITY = 8;
+
+    /**
+     * Offset of a value which is already read.
+     */
+    private static final int READ = -1;
+
+    /**
+     * Parser over the content, moved to the value being read.
+     */
+    private final ReaderParser parser;
+
+    /**
+     * Creates lazy reader of the content.
+     * @param content
+     * @param length - number of characters
+     */
+    private JsonLazy(final char[] content, final int length) {
+        this.parser = new ReaderParser(content, length);
+    }
+
+    /**
+     * Reads JSON as lazy views. Reader is not closed.
+     * @param reader
+     * @return value
+     * @throws IOException
+     * @throws IllegalArgumentException if content is not valid json
+     */
+    static Object parse(final Reader reader) throws IOException {
+        char[] content = new char[Json.Parser.BUFFER_SIZE];
+        int length = 0;
+        int read;
+        while ((read = reader.read(content, length,
+                content.length - length)) != -1) {
+            length += read;
+            if (length == content.length) {
+                content = Arrays.copyOf(content, length * 2);
+            }
+        }
+        return parse(content, length);
+    }
+
+    /**
+     * Reads JSON as lazy views over the characters, which are kept.
+     * @param content
+     * @param length - number of characters
+     * @return value
+     * @throws IOException
+     * @throws IllegalArgumentException if content is not valid json
+     */
+    static Object parse(final char[] content, final int length)
+            throws IOException {
+        final JsonLazy lazy = new JsonLazy(content, length);
+        final char character = lazy.parser.nextClean();
+        if (character == '{' || character == '[') {
+            return lazy.container(character);
+        }
+        lazy.parser.position(0);
+        return lazy.parser.parseDocument();
+    }
+
+    /**
+     * Reads the value at the offset.
+     * @param offset - index of the first character of the value
+     * @return value
+     */
+    private Object read(final int offset) {
+        parser.position(offset);
+        try {
+            final char character = parser.nextClean();
+            if (character == '{' || character == '[') {
+                return container(character);
+            }
+            return parser.parseValue(character);
+        } catch (final IOException e) {
+            // Content is in memory
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Indexes the object or array, whose first character is read.
+     * @param character - brace or bracket
+     * @return view
+     * @throws IOException
+     */
+    private Object container(final char character) throws IOException {
+        return character == '{' ? new LazyMap() : new LazyList();
+    }
+
+    /**
+     * Keeps offset of the value, whose first character is read.
+     * @param offsets
+     * @param index - index of the value
+     * @return offsets, grown if needed
+     */
+    private int[] offset(final int[] offsets, final int index) {
+        final int[] grown = index == offsets.length
+                ? Arrays.copyOf(offsets, index * 2) : offsets;
+        grown[index] = parser.position() - 1;
+        return grown;
+    }
+
+    /**
+     * Object view, reading values on first access.
+     */
+    private final class LazyMap extends AbstractMap<String, Object> {
+
+        /**
+         * Index of the value of each name. Last value of a repeated name
+         * wins.
+         */
+        private final Map<String, Integer> indexes = new HashMap<>();
+
+        /**
+         * Offsets of values, or {@link #READ}.
+         */
+        private final int[] offsets;
+
+        /**
+         * Values read.
+         */
+        private final Object[] values;
+
+        /**
+         * Indexes the object, whose brace is read.
+         * @throws IOException
+         */
+        LazyMap() throws IOException {
+            int[] offsetsOfValues = new int[INITIAL_CAPACITY];
+            int size = 0;
+            char character = parser.nextClean();
+            if (character != '}') {
+                for (;;) {
+                    if (character != '"') {
+                        throw new IllegalArgumentException(
+                                Json.ILLEGAL_JSON_VALUE);
+                    }
+                    final String name = JsonString.key(parser);
+                    if (parser.nextClean() != ':') {
+                        throw new IllegalArgumentException(
+                                Json.ILLEGAL_JSON_VALUE);
+                    }
+                    character = parser.nextClean();
+                    offsetsOfValues = offset(offsetsOfValues, size);
+                    indexes.put(name, size++);
+                    character = parser.skipValue(character);
+                    if (character == '}') {
+                        break;
+                    }
+                    if (character != ',') {
+                        throw new IllegalArgumentException(
+                                Json.ILLEGAL_JSON_VALUE);
+                    }
+                    character = parser.nextClean();
+                }
+            }
+            this.offsets = offsetsOfValues;
+            this.values = new Object[size];
+        }
+
+        @Override
+        public Object get(final Object name) {
+            final Integer index = indexes.get(name);
+            return index == null ? null : value(index);
+        }
+
+        /**
+         * Gets the value, reading it on first access.
+         * @param index
+         * @return value
+         */
+        private Object value(final int index) {
+            if (offsets[index] != READ) {
+                values[index] = read(offsets[index]);
+                offsets[index] = READ;
+            }
+            return values[index];
+        }
+
+        @Override
+        public boolean containsKey(final Object name) {
+            return indexes.containsKey(name);
+        }
+
+        @Override
+        public int size() {
+            return indexes.size();
+        }
+
+        @Override
+        public Set<Entry<String, Object>> entrySet() {
+            return new AbstractSet<>() {
+                @Override
+                public Iterator<Entry<String, Object>> iterator() {
+                    final Iterator<Entry<String, Integer>> entries
+                            = indexes.entrySet().iterator();
+                    return new Iterator<>() {
+                        @Override
+                        public boolean hasNext() {
+                            return entries.hasNext();
+                        }
+
+                        @Override
+                        public Entry<String, Object> next() {
+                            final Entry<String, Integer> entry
+                                    = entries.next();
+                            return new SimpleImmutableEntry<>(
+                                    entry.getKey(), value(entry.getValue()));
+                        }
+                    };
+                }
+
+                @Override
+                public int size() {
+                    return indexes.size();
+                }
+            };
+        }
+    }
+
+    /**
+     * Array view, reading values on first access.
+     */
+    private final class LazyList extends AbstractList<Object>
+            implements RandomAccess {
+
+        /**
+         * Offsets of values, or {@link #READ}.
+         */
+        private final int[] offsets;
+
+        /**
+         * Values read.
+         */
+        private final Object[] values;
+
+        /**
+         * Indexes the array, whose bracket is read.
+         * @throws IOException
+         */
+        LazyList() throws IOException {
+            int[] offsetsOfValues = new int[INITIAL_CAPACITY];
+            int size = 0;
+            char character = parser.nextClean();
+            if (character != ']') {
+                for (;;) {
+                    offsetsOfValues = offset(offsetsOfValues, size++);
+                    character = parser.skipValue(character);
+                    if (character == ']') {
+                        break;
+                    }
+                    if (character != ',') {
+                        throw new IllegalArgumentException(
+                                Json.ILLEGAL_JSON_VALUE);
+                    }
+                    character = parser.nextClean();
+                }
+            }
+            this.offsets = offsetsOfValues;
+            this.values = new Object[size];
+        }
+
+        @Override
+        public Object get(final int index) {
+            if (index >= values.length) {
+                throw new IndexOutOfBoundsException(index);
+            }
+            if (offsets[index] != READ) {
+                values[index] = read(offsets[index]);
+                offsets[index] = READ;
+            }
+            return values[index];
+        }
+
+        @Override
+        public int size() {
+            return values.length;
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.techatpark.sjson;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * Spliterator of consecutive top level values, e.g. JSON Lines.
+ * One parser reads all the values, so its buffers are reused.
+ * <p>
+ * It splits by taking the next chunk of whole lines to a parser of its
+ * own, so that a parallel stream parses chunks concurrently. Hence
+ * a value must not span lines when stream is parallel.
+ */
+final class JsonLines implements Spliterator<Object> {
+
+    /**
+     * Minimum length of content split to another spliterator.
+     */
+    static final int SPLIT_LENGTH = 64 * 1024;
+
+    /**
+     * Parser of the values.
+     */
+    private final Json.Parser parser;
+
+    /**
+     * Creates Spliterator for the values read by the parser.
+     * @param theParser
+     */
+    JsonLines(final Json.Parser theParser) {
+        this.parser = theParser;
+    }
+
+    @Override
+    public boolean tryAdvance(final Consumer<? super Object> action) {
+        try {
+            final Object value = parser.parseNext();
+            if (value == parser) {
+                return false;
+            }
+            action.accept(value);
+            return true;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public Spliterator<Object> trySplit() {
+        try {
+            final Json.Parser lines = parser.split(SPLIT_LENGTH);
+            return lines == null ? null : new JsonLines(lines);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public long estimateSize() {
+        return Long.MAX_VALUE;
+    }
+
+    @Override
+    public int characteristics() {
+        return ORDERED;
+    }
+}
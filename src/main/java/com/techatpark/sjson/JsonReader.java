@@ -0,0 +1,380 @@
+package com.techatpark.sjson;
+
+import com.techatpark.sjson.element.JsonBoolean;
+import com.techatpark.sjson.element.JsonNull;
+import com.techatpark.sjson.element.JsonNumber;
+import com.techatpark.sjson.element.JsonString;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+
+/**
+ * Pull reader that reads JSON as a stream of tokens. Only the current
+ * token is held in memory, so it can read documents of any size.
+ * Consecutive top level values (e.g. NDJSON) are read one after another
+ * till {@link Token#END_DOCUMENT}.
+ * <p>
+ * It is not thread safe.
+ */
+public final class JsonReader implements Closeable {
+
+    /**
+     * Tokens of JSON.
+     */
+    public enum Token {
+        /**
+         * Start of an Object.
+         */
+        START_OBJECT,
+        /**
+         * End of an Object.
+         */
+        END_OBJECT,
+        /**
+         * Start of an Array.
+         */
+        START_ARRAY,
+        /**
+         * End of an Array.
+         */
+        END_ARRAY,
+        /**
+         * Name of an Object Field.
+         */
+        FIELD_NAME,
+        /**
+         * String Value.
+         */
+        STRING,
+        /**
+         * Number Value.
+         */
+        NUMBER,
+        /**
+         * True Value.
+         */
+        TRUE,
+        /**
+         * False Value.
+         */
+        FALSE,
+        /**
+         * Null Value.
+         */
+        NULL,
+        /**
+         * End of the content.
+         */
+        END_DOCUMENT
+    }
+
+    /**
+     * Character returned by parser at the end of content.
+     */
+    private static final char EOF = (char) -1;
+
+    /**
+     * Parser to the JSON Content.
+     */
+    private final Json.Parser parser;
+
+    /**
+     * Underlying content to be closed.
+     */
+    private final Closeable closeable;
+
+    /**
+     * Kind of the open containers, true for Object.
+     */
+    private final boolean[] objects;
+
+    /**
+     * Number of open containers.
+     */
+    private int depth;
+
+    /**
+     * Flag for no values read yet in current container.
+     */
+    private boolean first;
+
+    /**
+     * Flag for a field name read and its value not yet read.
+     */
+    private boolean nameRead;
+
+    /**
+     * Flag for parser cursor holding the next clean character.
+     */
+    private boolean cursorPending;
+
+    /**
+     * Current token.
+     */
+    private Token token;
+
+    /**
+     * String of the current FIELD_NAME or STRING token.
+     */
+    private String string;
+
+    /**
+     * Number of the current NUMBER token.
+     */
+    private Number number;
+
+    /**
+     * Creates Json Reader for the reader.
+     * @param reader
+     */
+    public JsonReader(final Reader reader) {
+        this(new ReaderParser(reader), reader);
+    }
+
+    /**
+     * Creates Json Reader for the UTF-8 encoded stream.
+     * @param inputStream
+     */
+    public JsonReader(final InputStream inputStream) {
+        this(new Utf8Parser(inputStream), inputStream);
+    }
+
+    /**
+     * Creates Json Reader for the parser.
+     * @param theParser
+     * @param theCloseable
+     */
+    private JsonReader(final Json.Parser theParser,
+                       final Closeable theCloseable) {
+        this.parser = theParser;
+        this.closeable = theCloseable;
+        this.objects = new boolean[Json.Parser.DEFAULT_MAX_DEPTH];
+    }
+
+    /**
+     * Reads next token.
+     * @return token
+     * @throws IOException
+     * @throws IllegalArgumentException if content is not valid json
+     */
+    public Token nextToken() throws IOException {
+        return nextToken(false);
+    }
+
+    /**
+     * Reads next token, skipping it if it starts a value.
+     * @param skip - flag to skip the value
+     * @return token
+     * @throws IOException
+     */
+    private Token nextToken(final boolean skip) throws IOException {
+        char character = nextClean();
+        if (depth == 0) {
+            token = character == EOF ? Token.END_DOCUMENT
+                    : value(character, skip);
+            return token;
+        }
+        if (nameRead) {
+            nameRead = false;
+            token = value(character, skip);
+            return token;
+        }
+        final boolean inObject = objects[depth - 1];
+        if (character == (inObject ? '}' : ']')) {
+            depth--;
+            first = false;
+            if (inObject) {
+                parser.endObject();
+                token = Token.END_OBJECT;
+            } else {
+                parser.endArray();
+                token = Token.END_ARRAY;
+            }
+            return token;
+        }
+        if (!first) {
+            if (character != ',') {
+                throw new IllegalArgumentException(Json.ILLEGAL_JSON_VALUE);
+            }
+            character = nextClean();
+        }
+        first = false;
+        if (inObject) {
+            if (character != '"') {
+                throw new IllegalArgumentException(Json.ILLEGAL_JSON_VALUE);
+            }
+            string = JsonString.key(parser);
+            if (nextClean() != ':') {
+                throw new IllegalArgumentException(Json.ILLEGAL_JSON_VALUE);
+            }
+            nameRead = true;
+            token = Token.FIELD_NAME;
+        } else {
+            token = value(character, skip);
+        }
+        return token;
+    }
+
+    /**
+     * Skips the next value. If the next token is a field name, the
+     * field name and its value are skipped. Objects and arrays are
+     * scanned for their end without reading their tokens, and skipped
+     * strings are not read.
+     * @throws IOException
+     * @throws IllegalStateException if there is no value to skip
+     */
+    public void skipValue() throws IOException {
+        final int start = depth;
+        Token skipped = nextToken(true);
+        if (skipped == Token.FIELD_NAME) {
+            skipped = nextToken(true);
+        }
+        if (depth < start || skipped == Token.END_DOCUMENT) {
+            throw new IllegalStateException("No value to skip");
+        }
+    }
+
+    /**
+     * Gets the current token.
+     * @return token, null before first token is read
+     */
+    public Token getToken() {
+        return token;
+    }
+
+    /**
+     * Gets the String of current FIELD_NAME or STRING token.
+     * @return string, null if the string was skipped
+     * @throws IllegalStateException for other tokens
+     */
+    public String getString() {
+        if (token != Token.FIELD_NAME && token != Token.STRING) {
+            throw new IllegalStateException("Current token is " + token);
+        }
+        return string;
+    }
+
+    /**
+     * Gets the Number of current NUMBER token.
+     * @return number
+     * @throws IllegalStateException for other tokens
+     */
+    public Number getNumber() {
+        if (token != Token.NUMBER) {
+            throw new IllegalStateException("Current token is " + token);
+        }
+        return number;
+    }
+
+    /**
+     * Gets the Number of current NUMBER token as long.
+     * @return number
+     * @throws IllegalStateException for other tokens
+     */
+    public long getLong() {
+        return getNumber().longValue();
+    }
+
+    /**
+     * Gets the Number of current NUMBER token as double.
+     * @return number
+     * @throws IllegalStateException for other tokens
+     */
+    public double getDouble() {
+        return getNumber().doubleValue();
+    }
+
+    /**
+     * Closes the underlying content.
+     * @throws IOException
+     */
+    @Override
+    public void close() throws IOException {
+        closeable.close();
+    }
+
+    /**
+     * Gets next clean character, which may already be read by parser
+     * while reading a number.
+     * @return character
+     * @throws IOException
+     */
+    private char nextClean() throws IOException {
+        if (cursorPending) {
+            cursorPending = false;
+            return parser.getCursor();
+        }
+        return parser.nextClean();
+    }
+
+    /**
+     * Reads value starting with the character. A skipped object or
+     * array is read till its end.
+     * @param character
+     * @param skip - flag to skip the value
+     * @return token
+     * @throws IOException
+     */
+    private Token value(final char character, final boolean skip)
+            throws IOException {
+        if (skip && (character == '{' || character == '[')) {
+            parser.skip(1);
+            return character == '{' ? Token.END_OBJECT : Token.END_ARRAY;
+        }
+        return switch (character) {
+            case '{' -> {
+                parser.startObject();
+                push(true);
+                yield Token.START_OBJECT;
+            }
+            case '[' -> {
+                parser.startArray();
+                push(false);
+                yield Token.START_ARRAY;
+            }
+            case '"' -> {
+                if (skip) {
+                    parser.skip(0);
+                    string = null;
+                } else {
+                    string = JsonString.value(parser);
+                }
+                yield Token.STRING;
+            }
+            case 't' -> {
+                JsonBoolean.value(parser, true);
+                yield Token.TRUE;
+            }
+            case 'f' -> {
+                JsonBoolean.value(parser, false);
+                yield Token.FALSE;
+            }
+            case 'n' -> {
+                JsonNull.value(parser);
+                yield Token.NULL;
+            }
+            default -> {
+                if (Character.isDigit(character)
+                        || character == '+' || character == '-') {
+                    // Number ends by reading next clean character
+                    parser.setCursor(EOF);
+                    number = JsonNumber.value(parser, character);
+                    cursorPending = true;
+                    yield Token.NUMBER;
+                }
+                throw new IllegalArgumentException(Json.ILLEGAL_JSON_VALUE);
+            }
+        };
+    }
+
+    /**
+     * Opens a container.
+     * @param isObject
+     */
+    private void push(final boolean isObject) {
+        objects[depth++] = isObject;
+        first = true;
+    }
+}
@@ -0,0 +1,400 @@
+package com.techatpark.sjson;
+
+import com.techatpark.sjson.element.JsonString;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Selects values of JSON Pointers (RFC 6901) from a document, without
+ * reading the rest of it. Pointers are compiled once into a tree of
+ * reference tokens. Values off the tree are skipped by scanning their
+ * characters, and reading stops once every pointer is resolved.
+ * <p>
+ * It is immutable and thread safe.
+ */
+public final class JsonSelector {
+
+    /**
+     * Root of the compiled pointers.
+     */
+    private final Node root;
+
+    /**
+     * Number of distinct pointers.
+     */
+    private final int count;
+
+    /**
+     * Compiles the JSON Pointers, e.g. {@code /order/customer/id}.
+     * @param pointers
+     * @throws IllegalArgumentException if a pointer is not valid
+     */
+    public JsonSelector(final String... pointers) {
+        this.root = new Node();
+        final Set<String> distinct = new LinkedHashSet<>(
+                Arrays.asList(pointers));
+        for (final String pointer : distinct) {
+            compile(pointer);
+        }
+        this.count = distinct.size();
+    }
+
+    /**
+     * Selects values of the pointers from the reader. Reader is closed.
+     * @param reader
+     * @return values by pointer. Pointers not found are absent.
+     * @throws IOException
+     * @throws IllegalArgumentException if content is not valid json
+     */
+    public Map<String, Object> select(final Reader reader)
+            throws IOException {
+        try (reader) {
+            return select(new ReaderParser(reader));
+        }
+    }
+
+    /**
+     * Selects values of the pointers from UTF-8 encoded stream.
+     * Stream is closed.
+     * @param inputStream
+     * @return values by pointer. Pointers not found are absent.
+     * @throws IOException
+     * @throws IllegalArgumentException if content is not valid json
+     */
+    public Map<String, Object> select(final InputStream inputStream)
+            throws IOException {
+        try (inputStream) {
+            return select(new Utf8Parser(inputStream));
+        }
+    }
+
+    /**
+     * Selects values of the pointers from UTF-8 encoded bytes.
+     * @param bytes
+     * @return values by pointer. Pointers not found are absent.
+     * @throws IOException
+     * @throws IllegalArgumentException if content is not valid json
+     */
+    public Map<String, Object> select(final byte[] bytes)
+            throws IOException {
+        return select(new Utf8Parser(bytes));
+    }
+
+    /**
+     * Selects values of the pointers with the parser.
+     * @param parser
+     * @return values by pointer
+     * @throws IOException
+     */
+    private Map<String, Object> select(final Json.Parser parser)
+            throws IOException {
+        final Map<String, Object> values = HashMap.newHashMap(count);
+        if (count != 0) {
+            value(parser, parser.nextClean(), root, values);
+        }
+        return values;
+    }
+
+    /**
+     * Adds the pointer to the tree.
+     * @param pointer
+     */
+    private void compile(final String pointer) {
+        if (!pointer.isEmpty() && pointer.charAt(0) != '/') {
+            throw new IllegalArgumentException("Invalid JSON Pointer "
+                    + pointer);
+        }
+        Node node = root;
+        int start = 1;
+        while (start <= pointer.length()) {
+            int end = pointer.indexOf('/', start);
+            if (end == -1) {
+                end = pointer.length();
+            }
+            node = node.child(unescape(pointer, start, end));
+            start = end + 1;
+        }
+        node.pointer = pointer;
+    }
+
+    /**
+     * Unescapes a reference token, ~1 as / and ~0 as ~.
+     * @param pointer
+     * @param start
+     * @param end
+     * @return reference token
+     */
+    private static String unescape(final String pointer, final int start,
+                                   final int end) {
+        final StringBuilder token = new StringBuilder(end - start);
+        for (int i = start; i < end; i++) {
+            final char character = pointer.charAt(i);
+            if (character == '~') {
+                final char escaped = ++i < end ? pointer.charAt(i) : 0;
+                if (escaped != '0' && escaped != '1') {
+                    throw new IllegalArgumentException(
+                            "Invalid JSON Pointer " + pointer);
+                }
+                token.append(escaped == '0' ? '~' : '/');
+            } else {
+                token.append(character);
+            }
+        }
+        return token.toString();
+    }
+
+    /**
+     * Reads the value starting with the character, selecting values
+     * of the node and its descendants.
+     * @param parser
+     * @param character - first clean character of the value
+     * @param node - null if nothing is selected from the value
+     * @param values
+     * @return next clean character after the value
+     * @throws IOException
+     */
+    private char value(final Json.Parser parser, final char character,
+                       final Node node,
+                       final Map<String, Object> values)
+            throws IOException {
+        if (node == null) {
+            return parser.skipValue(character);
+        }
+        if (node.pointer != null) {
+            final Object value = parser.parseValue(character);
+            if (value == parser) {
+                throw new IllegalArgumentException(Json.ILLEGAL_JSON_VALUE);
+            }
+            resolve(value, node, values);
+            return character == '"' || character == 't'
+                    || character == 'f' || character == 'n'
+                    ? parser.nextClean() : parser.getCursor();
+        }
+        if (character == '{' && node.children != null) {
+            return object(parser, node, values);
+        }
+        if (character == '[' && node.elements != null) {
+            return array(parser, node, values);
+        }
+        return parser.skipValue(character);
+    }
+
+    /**
+     * Reads an object, selecting from the values of its children.
+     * @param parser
+     * @param node
+     * @param values
+     * @return next clean character after the object
+     * @throws IOException
+     */
+    private char object(final Json.Parser parser, final Node node,
+                        final Map<String, Object> values)
+            throws IOException {
+        parser.startObject();
+        char character = parser.nextClean();
+        if (character != '}') {
+            for (;;) {
+                if (character != '"') {
+                    throw new IllegalArgumentException(
+                            Json.ILLEGAL_JSON_VALUE);
+                }
+                final String key = JsonString.key(parser);
+                if (parser.nextClean() != ':') {
+                    throw new IllegalArgumentException(
+                            Json.ILLEGAL_JSON_VALUE);
+                }
+                character = value(parser, parser.nextClean(),
+                        node.children.get(key), values);
+                if (values.size() == count) {
+                    return character;
+                }
+                if (character == '}') {
+                    break;
+                }
+                if (character != ',') {
+                    throw new IllegalArgumentException(
+                            Json.ILLEGAL_JSON_VALUE);
+                }
+                character = parser.nextClean();
+            }
+        }
+        parser.endObject();
+        return parser.nextClean();
+    }
+
+    /**
+     * Reads an array, selecting from its elements.
+     * @param parser
+     * @param node
+     * @param values
+     * @return next clean character after the array
+     * @throws IOException
+     */
+    private char array(final Json.Parser parser, final Node node,
+                       final Map<String, Object> values)
+            throws IOException {
+        parser.startArray();
+        char character = parser.nextClean();
+        if (character != ']') {
+            int next = 0;
+            for (int index = 0;; index++) {
+                Node element = null;
+                if (next < node.indexes.length
+                        && node.indexes[next] == index) {
+                    element = node.elements[next++];
+                }
+                character = value(parser, character, element, values);
+                if (values.size() == count) {
+                    return character;
+                }
+                if (character == ']') {
+                    break;
+                }
+                if (character != ',') {
+                    throw new IllegalArgumentException(
+                            Json.ILLEGAL_JSON_VALUE);
+                }
+                if (next == node.indexes.length) {
+                    // Nothing is selected from rest of the elements
+                    parser.skip(1);
+                    break;
+                }
+                character = parser.nextClean();
+            }
+        }
+        parser.endArray();
+        return parser.nextClean();
+    }
+
+    /**
+     * Selects values of the descendants of node from a read value.
+     * @param value
+     * @param node
+     * @param values
+     */
+    private static void resolve(final Object value, final Node node,
+                                final Map<String, Object> values) {
+        if (node.pointer != null) {
+            values.put(node.pointer, value);
+        }
+        if (value instanceof Map<?, ?> map && node.children != null) {
+            for (final Map.Entry<String, Node> child
+                    : node.children.entrySet()) {
+                if (map.containsKey(child.getKey())) {
+                    resolve(map.get(child.getKey()), child.getValue(),
+                            values);
+                }
+            }
+        } else if (value instanceof List<?> list && node.indexes != null) {
+            for (int i = 0; i < node.indexes.length
+                    && node.indexes[i] < list.size(); i++) {
+                resolve(list.get(node.indexes[i]), node.elements[i],
+                        values);
+            }
+        }
+    }
+
+    /**
+     * Reference token of the compiled pointers.
+     */
+    private static final class Node {
+
+        /**
+         * Pointer that ends at this node, or null.
+         */
+        private String pointer;
+
+        /**
+         * Children by object field name, or null.
+         */
+        private Map<String, Node> children;
+
+        /**
+         * Array indexes of the children in ascending order, or null.
+         */
+        private int[] indexes;
+
+        /**
+         * Children of the indexes. Same nodes as of children whose
+         * tokens are array indexes.
+         */
+        private Node[] elements;
+
+        /**
+         * Gets the child of the token, creating it on first use.
+         * @param token
+         * @return child
+         */
+        Node child(final String token) {
+            if (children == null) {
+                children = new HashMap<>();
+            }
+            Node child = children.get(token);
+            if (child == null) {
+                child = new Node();
+                children.put(token, child);
+                final int index = index(token);
+                if (index != -1) {
+                    addElement(index, child);
+                }
+            }
+            return child;
+        }
+
+        /**
+         * Adds child of an array index, keeping indexes in order.
+         * @param index
+         * @param child
+         */
+        private void addElement(final int index, final Node child) {
+            if (indexes == null) {
+                indexes = new int[]{index};
+                elements = new Node[]{child};
+                return;
+            }
+            final int at = -Arrays.binarySearch(indexes, index) - 1;
+            final int[] newIndexes = new int[indexes.length + 1];
+            final Node[] newElements = new Node[indexes.length + 1];
+            System.arraycopy(indexes, 0, newIndexes, 0, at);
+            System.arraycopy(elements, 0, newElements, 0, at);
+            newIndexes[at] = index;
+            newElements[at] = child;
+            System.arraycopy(indexes, at, newIndexes, at + 1,
+                    indexes.length - at);
+            System.arraycopy(elements, at, newElements, at + 1,
+                    indexes.length - at);
+            indexes = newIndexes;
+            elements = newElements;
+        }
+
+        /**
+         * Parses token as an array index.
+         * @param token
+         * @return index, or -1 if it is not an index
+         */
+        private static int index(final String token) {
+            if (token.isEmpty() || token.length() > 1
+                    && token.charAt(0) == '0') {
+                return -1;
+            }
+            for (int i = 0; i < token.length(); i++) {
+                if (token.charAt(i) < '0' || token.charAt(i) > '9') {
+                    return -1;
+                }
+            }
+            try {
+                return Integer.parseInt(token);
+            } catch (final NumberFormatException e) {
+                return -1;
+            }
+        }
+    }
+}
@@ -0,0 +1,888 @@
+package com.techatpark.sjson;
+
+import com.techatpark.sjson.element.JsonBoolean;
+import com.techatpark.sjson.element.JsonNull;
+import com.techatpark.sjson.element.JsonNumber;
+import com.techatpark.sjson.element.JsonString;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.AbstractList;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Document parsed into a flat tape of longs. Each value is an entry
+ * with its type in the high byte and a payload in the rest. Objects and
+ * arrays hold the index after their last entry, so they are stepped
+ * over at once. Strings, names and big numbers are kept as UTF-8 bytes
+ * in one buffer.
+ * <p>
+ * Objects and arrays are read as unmodifiable Map and List views over
+ * the tape. Like {@link Json#parse(java.io.Reader)}, the last value of
+ * a repeated field name wins, and earlier ones are marked as shadowed
+ * while parsing. Their values are decoded on every access. A list
+ * indexes the offsets of its elements on its first get, and an object
+ * with more than a few fields indexes its names on its first lookup,
+ * so lookups through a view take constant time after that. Tape is not
+ * changed after parsing, and indexes are published through final
+ * fields, so views can be shared across threads.
+ */
+final class JsonTape {
+
+    /**
+     * Position of the type in an entry.
+     */
+    private static final int TYPE_SHIFT = 56;
+
+    /**
+     * Type bits of an entry, below the shadowed flag.
+     */
+    private static final int TYPE_MASK = 0x3F;
+
+    /**
+     * Flag of a field name repeated later in its object.
+     */
+    private static final long SHADOWED = 1L << (Long.SIZE - 2);
+
+    /**
+     * Payload of an entry.
+     */
+    private static final long PAYLOAD_MASK = (1L << TYPE_SHIFT) - 1;
+
+    /**
+     * Position of the size in a payload, above the index or offset.
+     */
+    private static final int SIZE_SHIFT = 32;
+
+    /**
+     * Low 32 bits of a payload.
+     */
+    private static final long INT_MASK = 0xFFFF_FFFFL;
+
+    /**
+     * Largest size held in a payload. Larger objects and arrays are
+     * counted, and larger strings keep their length in next entry.
+     */
+    private static final int MAX_SIZE = (1 << (TYPE_SHIFT - SIZE_SHIFT)) - 1;
+
+    /**
+     * Characters below this are encoded as one byte.
+     */
+    private static final char ASCII_LIMIT = 0x80;
+
+    /**
+     * Initial number of entries.
+     */
+    private static final int CAPACITY = 64;
+
+    /**
+     * Most fields of an object looked up by walking its entries. Names of
+     * wider objects are indexed.
+     */
+    private static final int WALKED_FIELDS = 8;
+
+    /**
+     * Object. Payload is size and the index after it.
+     */
+    private static final int OBJECT = 1;
+
+    /**
+     * Array. Payload is size and the index after it.
+     */
+    private static final int ARRAY = 2;
+
+    /**
+     * String. Payload is length and offset of the bytes.
+     */
+    private static final int STRING = 3;
+
+    /**
+     * String of at least {@link #MAX_SIZE} bytes. Payload is offset and
+     * next entry is length.
+     */
+    private static final int LONG_STRING = 4;
+
+    /**
+     * True.
+     */
+    private static final int TRUE = 5;
+
+    /**
+     * False.
+     */
+    private static final int FALSE = 6;
+
+    /**
+     * Null.
+     */
+    private static final int NULL = 7;
+
+    /**
+     * Byte. Payload is the value.
+     */
+    private static final int BYTE = 8;
+
+    /**
+     * Short. Payload is the value.
+     */
+    private static final int SHORT = 9;
+
+    /**
+     * Integer. Payload is the value.
+     */
+    private static final int INT = 10;
+
+    /**
+     * Long. Next entry is the value.
+     */
+    private static final int LONG = 11;
+
+    /**
+     * Float. Payload is bits of the value.
+     */
+    private static final int FLOAT = 12;
+
+    /**
+     * Double. Next entry is bits of the value.
+     */
+    private static final int DOUBLE = 13;
+
+    /**
+     * BigInteger. Payload is length and offset of the digits.
+     */
+    private static final int BIG_INTEGER = 14;
+
+    /**
+     * BigDecimal. Payload is length and offset of the digits.
+     */
+    private static final int BIG_DECIMAL = 15;
+
+    /**
+     * Entries of the values.
+     */
+    private final long[] tape;
+
+    /**
+     * UTF-8 bytes of strings and big numbers.
+     */
+    private final byte[] bytes;
+
+    /**
+     * Creates tape.
+     * @param theTape
+     * @param theBytes
+     */
+    private JsonTape(final long[] theTape, final byte[] theBytes) {
+        this.tape = theTape;
+        this.bytes = theBytes;
+    }
+
+    /**
+     * Parses the document into a tape.
+     * @param parser
+     * @return value of the document. Objects and arrays are views.
+     * @throws IOException
+     */
+    static Object parse(final Json.Parser parser) throws IOException {
+        final Builder builder = new Builder();
+        builder.value(parser, parser.nextClean());
+        return builder.build().value(0);
+    }
+
+    /**
+     * Reads value of the entry.
+     * @param index
+     * @return value
+     */
+    private Object value(final int index) {
+        final long entry = tape[index];
+        final long payload = entry & PAYLOAD_MASK;
+        return switch (type(index)) {
+            case OBJECT -> new TapeMap(index);
+            case ARRAY -> new TapeList(index);
+            case STRING, LONG_STRING -> string(index);
+            case TRUE -> Boolean.TRUE;
+            case FALSE -> Boolean.FALSE;
+            case NULL -> null;
+            case BYTE -> (byte) payload;
+            case SHORT -> (short) payload;
+            case INT -> (int) payload;
+            case LONG -> tape[index + 1];
+            case FLOAT -> Float.intBitsToFloat((int) payload);
+            case DOUBLE -> Double.longBitsToDouble(tape[index + 1]);
+            case BIG_INTEGER -> new BigInteger(string(index));
+            default -> new BigDecimal(string(index));
+        };
+    }
+
+    /**
+     * Gets type of the entry.
+     * @param index
+     * @return type
+     */
+    private int type(final int index) {
+        return (int) (tape[index] >>> TYPE_SHIFT) & TYPE_MASK;
+    }
+
+    /**
+     * Gets index of the first field from the index, which is not
+     * shadowed.
+     * @param index - index of a field name
+     * @param end - index after the object
+     * @return index of the field name, or end
+     */
+    private int visible(final int index, final int end) {
+        int i = index;
+        while (i < end && (tape[i] & SHADOWED) != 0) {
+            i = after(after(i));
+        }
+        return i;
+    }
+
+    /**
+     * Gets index of the entry after the value.
+     * @param index
+     * @return index
+     */
+    private int after(final int index) {
+        return switch (type(index)) {
+            case OBJECT, ARRAY -> (int) (tape[index] & INT_MASK);
+            case LONG_STRING, LONG, DOUBLE -> index + 2;
+            default -> index + 1;
+        };
+    }
+
+    /**
+     * Gets size of the object or array.
+     * @param index
+     * @return size
+     */
+    private int sizeOf(final int index) {
+        final int size = (int) ((tape[index] & PAYLOAD_MASK) >>> SIZE_SHIFT);
+        if (size != MAX_SIZE) {
+            return size;
+        }
+        final int end = after(index);
+        int count = 0;
+        if (type(index) == OBJECT) {
+            for (int i = visible(index + 1, end); i < end;
+                 i = visible(after(after(i)), end)) {
+                count++;
+            }
+        } else {
+            for (int i = index + 1; i < end; i = after(i)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Gets offset of the bytes of a string.
+     * @param index
+     * @return offset
+     */
+    private int offset(final int index) {
+        return (int) (tape[index] & INT_MASK);
+    }
+
+    /**
+     * Gets length of the bytes of a string.
+     * @param index
+     * @return length
+     */
+    private int length(final int index) {
+        return type(index) == LONG_STRING ? (int) tape[index + 1]
+                : (int) ((tape[index] & PAYLOAD_MASK) >>> SIZE_SHIFT);
+    }
+
+    /**
+     * Reads the string.
+     * @param index
+     * @return string
+     */
+    private String string(final int index) {
+        return new String(bytes, offset(index), length(index),
+                StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Checks if the string is same as the name, without decoding it
+     * when it is ASCII.
+     * @param index
+     * @param name
+     * @return flag
+     */
+    private boolean matches(final int index, final String name) {
+        final int offset = offset(index);
+        final int length = length(index);
+        if (length < name.length()) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            final byte value = bytes[offset + i];
+            if (value < 0) {
+                return string(index).equals(name);
+            }
+            if (i == name.length() || name.charAt(i) != value) {
+                return false;
+            }
+        }
+        return length == name.length();
+    }
+
+    /**
+     * Unmodifiable view of an Object on the tape.
+     */
+    private final class TapeMap extends AbstractMap<String, Object> {
+
+        /**
+         * Index of the object.
+         */
+        private final int start;
+
+        /**
+         * Creates view of the object.
+         * @param theStart
+         */
+        TapeMap(final int theStart) {
+            this.start = theStart;
+        }
+
+        /**
+         * Index of the values by name, made on first lookup of a wide
+         * object.
+         */
+        private Names names;
+
+        /**
+         * Finds value of the name.
+         * @param name
+         * @return index of the value, or -1
+         */
+        private int find(final Object name) {
+            if (name instanceof String string) {
+                final int end = after(start);
+                if (sizeOf(start) > WALKED_FIELDS) {
+                    final Integer index = names(end).indexes().get(string);
+                    return index == null ? -1 : index;
+                }
+                for (int i = visible(start + 1, end); i < end;
+                     i = visible(after(after(i)), end)) {
+                    if (matches(i, string)) {
+                        return after(i);
+                    }
+                }
+            }
+            return -1;
+        }
+
+        /**
+         * Gets index of the values by name, making it on first call.
+         * @param end - index after the object
+         * @return index
+         */
+        private Names names(final int end) {
+            Names index = names;
+            if (index == null) {
+                final Map<String, Integer> indexes = new HashMap<>();
+                for (int i = visible(start + 1, end); i < end;
+                     i = visible(after(after(i)), end)) {
+                    indexes.put(string(i), after(i));
+                }
+                index = new Names(indexes);
+                names = index;
+            }
+            return index;
+        }
+
+        @Override
+        public Object get(final Object key) {
+            final int index = find(key);
+            return index == -1 ? null : value(index);
+        }
+
+        @Override
+        public boolean containsKey(final Object key) {
+            return find(key) != -1;
+        }
+
+        @Override
+        public int size() {
+            return sizeOf(start);
+        }
+
+        @Override
+        public Set<Entry<String, Object>> entrySet() {
+            return new AbstractSet<>() {
+                @Override
+                public Iterator<Entry<String, Object>> iterator() {
+                    final int end = after(start);
+                    return new Entries<>(start, visible(start + 1, end)) {
+                        @Override
+                        Entry<String, Object> read(final int index) {
+                            return new SimpleImmutableEntry<>(string(index),
+                                    value(after(index)));
+                        }
+
+                        @Override
+                        int step(final int index) {
+                            return visible(after(after(index)), end);
+                        }
+                    };
+                }
+
+                @Override
+                public int size() {
+                    return sizeOf(start);
+                }
+            };
+        }
+    }
+
+    /**
+     * Unmodifiable view of an Array on the tape.
+     */
+    private final class TapeList extends AbstractList<Object> {
+
+        /**
+         * Index of the array.
+         */
+        private final int start;
+
+        /**
+         * Creates view of the array.
+         * @param theStart
+         */
+        TapeList(final int theStart) {
+            this.start = theStart;
+        }
+
+        /**
+         * Index of the elements, made on first get.
+         */
+        private Offsets offsets;
+
+        @Override
+        public Object get(final int position) {
+            Offsets index = offsets;
+            if (index == null) {
+                final int[] indexes = new int[size()];
+                int at = start + 1;
+                for (int i = 0; i < indexes.length; i++) {
+                    indexes[i] = at;
+                    at = after(at);
+                }
+                index = new Offsets(indexes);
+                offsets = index;
+            }
+            Objects.checkIndex(position, index.indexes().length);
+            return value(index.indexes()[position]);
+        }
+
+        @Override
+        public int size() {
+            return sizeOf(start);
+        }
+
+        @Override
+        public Iterator<Object> iterator() {
+            return new Entries<>(start, start + 1) {
+                @Override
+                Object read(final int index) {
+                    return value(index);
+                }
+
+                @Override
+                int step(final int index) {
+                    return after(index);
+                }
+            };
+        }
+
+        @Override
+        public boolean equals(final Object other) {
+            if (other == this) {
+                return true;
+            }
+            if (!(other instanceof List<?> list)) {
+                return false;
+            }
+            final Iterator<?> elements = list.iterator();
+            for (final Object element : this) {
+                if (!elements.hasNext()
+                        || !Objects.equals(element, elements.next())) {
+                    return false;
+                }
+            }
+            return !elements.hasNext();
+        }
+
+        @Override
+        public int hashCode() {
+            return super.hashCode();
+        }
+    }
+
+    /**
+     * Indexes of the elements of an array. Index is held in a final field
+     * so that it is seen complete by other threads sharing the view.
+     * @param indexes - index of each element
+     */
+    private record Offsets(int[] indexes) {
+    }
+
+    /**
+     * Indexes of the values of an object by name. Index is held in a
+     * final field so that it is seen complete by other threads sharing
+     * the view.
+     * @param indexes - index of the value of each name
+     */
+    private record Names(Map<String, Integer> indexes) {
+    }
+
+    /**
+     * Iterator over the entries of an object or array.
+     * @param <E> type of the element
+     */
+    private abstract class Entries<E> implements Iterator<E> {
+
+        /**
+         * Index after the container.
+         */
+        private final int end;
+
+        /**
+         * Index of the next element.
+         */
+        private int index;
+
+        /**
+         * Creates iterator of the container.
+         * @param start
+         * @param first - index of the first element
+         */
+        Entries(final int start, final int first) {
+            this.end = after(start);
+            this.index = first;
+        }
+
+        /**
+         * Reads the element at index.
+         * @param at
+         * @return element
+         */
+        abstract E read(int at);
+
+        /**
+         * Gets index after the element.
+         * @param at
+         * @return index
+         */
+        abstract int step(int at);
+
+        @Override
+        public boolean hasNext() {
+            return index < end;
+        }
+
+        @Override
+        public E next() {
+            if (index >= end) {
+                throw new NoSuchElementException();
+            }
+            final E element = read(index);
+            index = step(index);
+            return element;
+        }
+    }
+
+    /**
+     * Writes the tape while parsing.
+     */
+    private static final class Builder {
+
+        /**
+         * Entries written so far.
+         */
+        private long[] tape = new long[CAPACITY];
+
+        /**
+         * Number of entries.
+         */
+        private int length;
+
+        /**
+         * Bytes written so far.
+         */
+        private byte[] bytes = new byte[CAPACITY];
+
+        /**
+         * Number of bytes.
+         */
+        private int bytesLength;
+
+        /**
+         * Index of field names by name, for each open object. Maps are
+         * reused by objects at the same depth.
+         */
+        private final List<Map<String, Integer>> names = new ArrayList<>();
+
+        /**
+         * Number of open objects.
+         */
+        private int objectDepth;
+
+        /**
+         * Writes the value starting with the character.
+         * @param parser
+         * @param character - first clean character of the value
+         * @return next clean character after the value
+         * @throws IOException
+         */
+        private char value(final Json.Parser parser, final char character)
+                throws IOException {
+            switch (character) {
+                case '{' -> {
+                    return object(parser);
+                }
+                case '[' -> {
+                    return array(parser);
+                }
+                case '"' -> string(STRING, JsonString.value(parser));
+                case 't' -> {
+                    JsonBoolean.value(parser, true);
+                    add(TRUE, 0);
+                }
+                case 'f' -> {
+                    JsonBoolean.value(parser, false);
+                    add(FALSE, 0);
+                }
+                case 'n' -> {
+                    JsonNull.value(parser);
+                    add(NULL, 0);
+                }
+                default -> {
+                    if (Character.isDigit(character)
+                            || character == '+' || character == '-') {
+                        // Number ends by reading next clean character
+                        parser.setCursor((char) -1);
+                        number(JsonNumber.value(parser, character));
+                        return parser.getCursor();
+                    }
+                    throw new IllegalArgumentException(
+                            Json.ILLEGAL_JSON_VALUE);
+                }
+            }
+            return parser.nextClean();
+        }
+
+        /**
+         * Writes an object.
+         * @param parser
+         * @return next clean character after the object
+         * @throws IOException
+         */
+        private char object(final Json.Parser parser) throws IOException {
+            parser.startObject();
+            final int start = length;
+            add(OBJECT, 0);
+            if (names.size() == objectDepth) {
+                names.add(new HashMap<>());
+            }
+            final Map<String, Integer> fields = names.get(objectDepth++);
+            int size = 0;
+            char character = parser.nextClean();
+            if (character != '}') {
+                for (;; size++) {
+                    if (character != '"') {
+                        throw new IllegalArgumentException(
+                                Json.ILLEGAL_JSON_VALUE);
+                    }
+                    final String name = JsonString.key(parser);
+                    final Integer shadowed = fields.put(name, length);
+                    if (shadowed != null) {
+                        // Last value of a repeated name wins
+                        tape[shadowed] |= SHADOWED;
+                        size--;
+                    }
+                    string(STRING, name);
+                    if (parser.nextClean() != ':') {
+                        throw new IllegalArgumentException(
+                                Json.ILLEGAL_JSON_VALUE);
+                    }
+                    character = value(parser, parser.nextClean());
+                    if (character == '}') {
+                        size++;
+                        break;
+                    }
+                    if (character != ',') {
+                        throw new IllegalArgumentException(
+                                Json.ILLEGAL_JSON_VALUE);
+                    }
+                    character = parser.nextClean();
+                }
+            }
+            parser.endObject();
+            fields.clear();
+            objectDepth--;
+            tape[start] = entry(OBJECT, container(size));
+            return parser.nextClean();
+        }
+
+        /**
+         * Writes an array.
+         * @param parser
+         * @return next clean character after the array
+         * @throws IOException
+         */
+        private char array(final Json.Parser parser) throws IOException {
+            parser.startArray();
+            final int start = length;
+            add(ARRAY, 0);
+            int size = 0;
+            char character = parser.nextClean();
+            if (character != ']') {
+                for (;; size++) {
+                    character = value(parser, character);
+                    if (character == ']') {
+                        size++;
+                        break;
+                    }
+                    if (character != ',') {
+                        throw new IllegalArgumentException(
+                                Json.ILLEGAL_JSON_VALUE);
+                    }
+                    character = parser.nextClean();
+                }
+            }
+            parser.endArray();
+            tape[start] = entry(ARRAY, container(size));
+            return parser.nextClean();
+        }
+
+        /**
+         * Gets payload of a container ending here.
+         * @param size
+         * @return payload
+         */
+        private long container(final int size) {
+            return (long) Math.min(size, MAX_SIZE) << SIZE_SHIFT | length;
+        }
+
+        /**
+         * Writes the number as its narrowest entry.
+         * @param number
+         */
+        private void number(final Number number) {
+            switch (number) {
+                case Byte value -> add(BYTE, value & INT_MASK);
+                case Short value -> add(SHORT, value & INT_MASK);
+                case Integer value -> add(INT, value & INT_MASK);
+                case Long value -> {
+                    add(LONG, 0);
+                    add(value);
+                }
+                case Float value -> add(FLOAT,
+                        Float.floatToRawIntBits(value) & INT_MASK);
+                case Double value -> {
+                    add(DOUBLE, 0);
+                    add(Double.doubleToRawLongBits(value));
+                }
+                case BigInteger value -> string(BIG_INTEGER, value.toString());
+                default -> string(BIG_DECIMAL, number.toString());
+            }
+        }
+
+        /**
+         * Writes UTF-8 bytes of the string.
+         * @param type
+         * @param string
+         */
+        private void string(final int type, final String string) {
+            final int offset = bytesLength;
+            ensureBytes(string.length());
+            int i = 0;
+            while (i < string.length() && string.charAt(i) < ASCII_LIMIT) {
+                bytes[bytesLength++] = (byte) string.charAt(i++);
+            }
+            if (i < string.length()) {
+                final byte[] encoded = string.substring(i)
+                        .getBytes(StandardCharsets.UTF_8);
+                ensureBytes(encoded.length);
+                System.arraycopy(encoded, 0, bytes, bytesLength,
+                        encoded.length);
+                bytesLength += encoded.length;
+            }
+            final int size = bytesLength - offset;
+            if (size < MAX_SIZE) {
+                add(type, (long) size << SIZE_SHIFT | offset);
+            } else {
+                add(LONG_STRING, offset);
+                add(size);
+            }
+        }
+
+        /**
+         * Makes room for more bytes.
+         * @param more
+         */
+        private void ensureBytes(final int more) {
+            if (bytesLength + more > bytes.length) {
+                bytes = Arrays.copyOf(bytes,
+                        Math.max(bytes.length * 2, bytesLength + more));
+            }
+        }
+
+        /**
+         * Writes an entry.
+         * @param type
+         * @param payload
+         */
+        private void add(final int type, final long payload) {
+            add(entry(type, payload));
+        }
+
+        /**
+         * Writes a raw entry.
+         * @param value
+         */
+        private void add(final long value) {
+            if (length == tape.length) {
+                tape = Arrays.copyOf(tape, length * 2);
+            }
+            tape[length++] = value;
+        }
+
+        /**
+         * Makes an entry.
+         * @param type
+         * @param payload
+         * @return entry
+         */
+        private static long entry(final int type, final long payload) {
+            return (long) type << TYPE_SHIFT | payload;
+        }
+
+        /**
+         * Creates the tape, trimmed to its length.
+         * @return tape
+         */
+        JsonTape build() {
+            return new JsonTape(Arrays.copyOf(tape, length),
+                    Arrays.copyOf(bytes, bytesLength));
+        }
+    }
+}
@@ -0,0 +1,270 @@
+package com.techatpark.sjson;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bounded cache of object field names. Keys are looked up by the hash
+ * of their raw characters, so a repeated key is returned as the same
+ * String instance without creating a new one.
+ * <p>
+ * It is a direct mapped table, i.e. a key has only one slot and
+ * {@link Eviction} decides which key stays when two keys share it.
+ * Keys longer than the maximum key length and keys with escapes
+ * are not cached.
+ * <p>
+ * It is thread safe and can be shared by parsers. Slots are read and
+ * written with plain access, as keys are immutable and a lost update
+ * only costs a miss. Hits and misses are counted only when statistics
+ * are asked for, as counting contends on every key.
+ */
+public final class KeyCache {
+
+    /**
+     * Decides which key stays when a new key maps to an occupied slot.
+     */
+    public enum Eviction {
+        /**
+         * New key replaces the cached key. Suits changing key sets.
+         */
+        REPLACE,
+        /**
+         * Cached key is kept and new key is not cached. Suits fixed key
+         * sets, which are then never evicted by rare keys.
+         */
+        KEEP
+    }
+
+    /**
+     * Number of slots (Default).
+     */
+    public static final int DEFAULT_CAPACITY = 1024;
+
+    /**
+     * Maximum length of a cached key (Default).
+     */
+    public static final int DEFAULT_MAX_KEY_LENGTH = 32;
+
+    /**
+     * Multiplier of String hash.
+     */
+    private static final int HASH_MULTIPLIER = 31;
+
+    /**
+     * Bits of hash folded into the slot index.
+     */
+    private static final int HASH_SHIFT = 16;
+
+    /**
+     * Cache used by parsers unless one is given.
+     */
+    private static final KeyCache DEFAULT = new KeyCache();
+
+    /**
+     * Cached keys by slot.
+     */
+    private final AtomicReferenceArray<String> keys;
+
+    /**
+     * Mask to get slot from hash.
+     */
+    private final int mask;
+
+    /**
+     * Maximum length of a cached key.
+     */
+    private final int maxKeyLength;
+
+    /**
+     * Eviction of the cache.
+     */
+    private final Eviction eviction;
+
+    /**
+     * Number of lookups returning a cached key. Null without statistics.
+     */
+    private final LongAdder hits;
+
+    /**
+     * Number of lookups creating a new key. Null without statistics.
+     */
+    private final LongAdder misses;
+
+    /**
+     * Creates Key Cache with default capacity, maximum key length and
+     * {@link Eviction#REPLACE}.
+     */
+    public KeyCache() {
+        this(DEFAULT_CAPACITY, DEFAULT_MAX_KEY_LENGTH, Eviction.REPLACE);
+    }
+
+    /**
+     * Creates Key Cache without statistics.
+     * @param capacity - number of slots, rounded up to power of two
+     * @param theMaxKeyLength - longer keys are not cached
+     * @param theEviction
+     */
+    public KeyCache(final int capacity,
+                    final int theMaxKeyLength,
+                    final Eviction theEviction) {
+        this(capacity, theMaxKeyLength, theEviction, false);
+    }
+
+    /**
+     * Creates Key Cache.
+     * @param capacity - number of slots, rounded up to power of two
+     * @param theMaxKeyLength - longer keys are not cached
+     * @param theEviction
+     * @param statistics - counts hits and misses if true
+     */
+    public KeyCache(final int capacity,
+                    final int theMaxKeyLength,
+                    final Eviction theEviction,
+                    final boolean statistics) {
+        if (capacity < 1 || capacity > 1 << (Integer.SIZE - 2)) {
+            throw new IllegalArgumentException(
+                    "Illegal capacity " + capacity);
+        }
+        final int slots = Integer.highestOneBit(capacity) == capacity
+                ? capacity : Integer.highestOneBit(capacity) << 1;
+        this.keys = new AtomicReferenceArray<>(slots);
+        this.mask = slots - 1;
+        this.maxKeyLength = theMaxKeyLength;
+        this.eviction = theEviction;
+        this.hits = statistics ? new LongAdder() : null;
+        this.misses = statistics ? new LongAdder() : null;
+    }
+
+    /**
+     * Gets the cache used by parsers unless one is given.
+     * @return key cache
+     */
+    public static KeyCache getDefault() {
+        return DEFAULT;
+    }
+
+    /**
+     * Gets the number of lookups returning a cached key.
+     * @return hits, 0 without statistics
+     */
+    public long getHits() {
+        return hits == null ? 0 : hits.sum();
+    }
+
+    /**
+     * Gets the number of lookups creating a new key.
+     * @return misses, 0 without statistics
+     */
+    public long getMisses() {
+        return misses == null ? 0 : misses.sum();
+    }
+
+    /**
+     * Removes all keys and resets the counters.
+     */
+    public void clear() {
+        for (int i = 0; i < keys.length(); i++) {
+            keys.setPlain(i, null);
+        }
+        if (hits != null) {
+            hits.reset();
+            misses.reset();
+        }
+    }
+
+    /**
+     * Gets the key for the characters.
+     * @param chars
+     * @param offset
+     * @param length
+     * @return key
+     */
+    String get(final char[] chars, final int offset, final int length) {
+        if (length > maxKeyLength) {
+            return new String(chars, offset, length);
+        }
+        int hash = 0;
+        for (int i = offset; i < offset + length; i++) {
+            hash = HASH_MULTIPLIER * hash + chars[i];
+        }
+        final int slot = slot(hash);
+        final String cached = keys.getPlain(slot);
+        if (cached != null && cached.length() == length) {
+            int i = 0;
+            while (i < length && cached.charAt(i) == chars[offset + i]) {
+                i++;
+            }
+            if (i == length) {
+                if (hits != null) {
+                    hits.increment();
+                }
+                return cached;
+            }
+        }
+        return put(slot, cached, new String(chars, offset, length));
+    }
+
+    /**
+     * Gets the key for the ASCII bytes.
+     * @param bytes
+     * @param offset
+     * @param length
+     * @return key or null if a byte is not ASCII
+     */
+    String get(final byte[] bytes, final int offset, final int length) {
+        if (length > maxKeyLength) {
+            return null;
+        }
+        int hash = 0;
+        for (int i = offset; i < offset + length; i++) {
+            if (bytes[i] < 0) {
+                return null;
+            }
+            hash = HASH_MULTIPLIER * hash + bytes[i];
+        }
+        final int slot = slot(hash);
+        final String cached = keys.getPlain(slot);
+        if (cached != null && cached.length() == length) {
+            int i = 0;
+            while (i < length && cached.charAt(i) == bytes[offset + i]) {
+                i++;
+            }
+            if (i == length) {
+                if (hits != null) {
+                    hits.increment();
+                }
+                return cached;
+            }
+        }
+        return put(slot, cached, new String(bytes, offset, length,
+                StandardCharsets.ISO_8859_1));
+    }
+
+    /**
+     * Caches the new key in the slot as per eviction.
+     * @param slot
+     * @param cached - key in the slot, if any
+     * @param key - new key
+     * @return key
+     */
+    private String put(final int slot, final String cached,
+                       final String key) {
+        if (misses != null) {
+            misses.increment();
+        }
+        if (cached == null || eviction == Eviction.REPLACE) {
+            keys.setPlain(slot, key);
+        }
+        return key;
+    }
+
+    /**
+     * Gets slot of the hash.
+     * @param hash
+     * @return slot
+     */
+    private int slot(final int hash) {
+        return (hash ^ (hash >>> HASH_SHIFT)) & mask;
+    }
+}
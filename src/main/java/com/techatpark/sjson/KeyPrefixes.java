@@ -0,0 +1,155 @@
+package com.techatpark.sjson;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Bounded cache of escaped field name prefixes, i.e. the quoted key and
+ * the colon, written before each value of an object. It is the writing
+ * counterpart of {@link KeyCache}, so a repeated key is escaped and
+ * encoded only once and then copied into the output.
+ * <p>
+ * It is a direct mapped table. A key is only cached when it is seen
+ * again at its slot, so it replaces the cached key sharing its slot,
+ * while keys seen once are escaped directly into the output and do not
+ * evict repeated keys. Keys longer than the maximum key length are not
+ * cached. It is thread safe: slots are read and written with plain
+ * access, as cached values are immutable and a lost update only costs a
+ * miss.
+ */
+final class KeyPrefixes {
+
+    /**
+     * Number of slots.
+     */
+    static final int CAPACITY = 1024;
+
+    /**
+     * Maximum length of a cached key.
+     */
+    static final int MAX_KEY_LENGTH = KeyCache.DEFAULT_MAX_KEY_LENGTH;
+
+    /**
+     * Bits of hash folded into the slot index.
+     */
+    private static final int HASH_SHIFT = 16;
+
+    /**
+     * Cached prefixes by slot.
+     */
+    private static final AtomicReferenceArray<Prefix> PREFIXES
+            = new AtomicReferenceArray<>(CAPACITY);
+
+    /**
+     * Last key missed by slot, cached when it is missed again.
+     */
+    private static final AtomicReferenceArray<String> SEEN
+            = new AtomicReferenceArray<>(CAPACITY);
+
+    private KeyPrefixes() {
+    }
+
+    /**
+     * Writes the prefix of the key. UTF-8 writers get its bytes.
+     * @param key
+     * @param appendable
+     * @throws IOException
+     */
+    static void write(final String key, final Appendable appendable)
+            throws IOException {
+        final Prefix prefix = key.length() > MAX_KEY_LENGTH ? null
+                : prefix(key);
+        if (prefix == null) {
+            appendable.append('"');
+            Escaper.escape(key, appendable);
+            appendable.append("\":");
+        } else if (appendable instanceof Utf8Writer writer) {
+            writer.write(prefix.bytes);
+        } else {
+            appendable.append(prefix.text);
+        }
+    }
+
+    /**
+     * Gets the escaped prefix of the key.
+     * @param key
+     * @return quoted and escaped key followed by colon
+     */
+    static String get(final String key) {
+        final Prefix prefix = key.length() > MAX_KEY_LENGTH ? null
+                : prefix(key);
+        return prefix == null ? escape(key) : prefix.text;
+    }
+
+    /**
+     * Gets the cached prefix of the key, caching it if the key was the
+     * last key missed at its slot.
+     * @param key - not longer than maximum key length
+     * @return prefix, null if the key is seen first
+     */
+    private static Prefix prefix(final String key) {
+        final int hash = key.hashCode();
+        final int slot = (hash ^ (hash >>> HASH_SHIFT)) & (CAPACITY - 1);
+        final Prefix cached = PREFIXES.getPlain(slot);
+        if (cached != null && cached.key.equals(key)) {
+            return cached;
+        }
+        if (!key.equals(SEEN.getPlain(slot))) {
+            SEEN.setPlain(slot, key);
+            return null;
+        }
+        final Prefix prefix = new Prefix(key, escape(key));
+        PREFIXES.setPlain(slot, prefix);
+        return prefix;
+    }
+
+    /**
+     * Escapes the key as a prefix.
+     * @param key
+     * @return quoted and escaped key followed by colon
+     */
+    private static String escape(final String key) {
+        final StringBuilder sb = new StringBuilder(key.length() + 3);
+        sb.append('"');
+        try {
+            Escaper.escape(key, sb);
+        } catch (final IOException e) {
+            // StringBuilder does not throw
+            throw new IllegalStateException(e);
+        }
+        return sb.append("\":").toString();
+    }
+
+    /**
+     * Cached prefix of a key.
+     */
+    private static final class Prefix {
+
+        /**
+         * Key.
+         */
+        private final String key;
+
+        /**
+         * Escaped prefix of the key.
+         */
+        private final String text;
+
+        /**
+         * UTF-8 bytes of the prefix.
+         */
+        private final byte[] bytes;
+
+        /**
+         * Creates Prefix.
+         * @param theKey
+         * @param theText
+         */
+        Prefix(final String theKey, final String theText) {
+            this.key = theKey;
+            this.text = theText;
+            this.bytes = theText.getBytes(StandardCharsets.UTF_8);
+        }
+    }
+}
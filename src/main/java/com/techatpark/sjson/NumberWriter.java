@@ -0,0 +1,384 @@
+package com.techatpark.sjson;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.math.BigInteger;
+
+/**
+ * Writes Json text of numbers. Integers are written as their digits,
+ * without creating Strings.
+ * <p>
+ * Doubles and floats are written with the shortest digits that read
+ * back as the same value. Like ECMAScript, they are written in plain
+ * notation from 1e-6 till below 1e21 and in scientific notation (e.g.
+ * {@code 1.5e+21}) otherwise, and they always have a fraction or an
+ * exponent so that they read back as floating point numbers. NaN and
+ * infinities have no Json text, so they are written as null.
+ * <p>
+ * Numbers are laid out in place into StringBuilders, and through one
+ * reused buffer per {@link Utf8Writer} or {@link Sink} of a Writer.
+ * Other sinks get the text of the number, as its toString when that is
+ * already the Json text.
+ * <p>
+ * Integers beyond long and BigDecimals are written as their toString.
+ * Digits of a BigInteger cannot be read without creating objects, so
+ * its toString is the cheapest, and a BigDecimal keeps its toString once
+ * created.
+ */
+final class NumberWriter {
+
+    /**
+     * Maximum length of a number text.
+     */
+    static final int MAX_LENGTH = 32;
+
+    /**
+     * Radix of digits.
+     */
+    private static final int RADIX = 10;
+
+    /**
+     * Lowest exponent written in plain notation, i.e. 0.1e-5 is 1e-6.
+     */
+    private static final int MIN_PLAIN = -5;
+
+    /**
+     * Highest exponent written in plain notation, i.e. 0.1e21 is 1e20.
+     */
+    private static final int MAX_PLAIN = 21;
+
+    /**
+     * Number text to be written.
+     */
+    private final StringBuilder text = new StringBuilder(MAX_LENGTH);
+
+    /**
+     * Characters of the text.
+     */
+    private final char[] chars = new char[MAX_LENGTH];
+
+    /**
+     * Writes Json text of the number.
+     * @param number
+     * @param appendable
+     * @throws IOException
+     */
+    static void write(final Number number, final Appendable appendable)
+            throws IOException {
+        switch (appendable) {
+            case Utf8Writer writer -> writer.numberWriter().append(number,
+                    writer);
+            case StringBuilder sb -> append(number, sb);
+            case Sink sink -> sink.numberWriter().append(number, sink.writer);
+            default -> appendable.append(text(number));
+        }
+    }
+
+    /**
+     * Gets sink to write many values into. Writers are wrapped into a
+     * {@link Sink}, so that their numbers are written through its buffer.
+     * @param appendable
+     * @return sink
+     */
+    static Appendable sink(final Appendable appendable) {
+        return appendable instanceof Writer writer
+                && !(appendable instanceof Sink) ? new Sink(writer)
+                : appendable;
+    }
+
+    /**
+     * Writes Json text of the number into the UTF-8 writer.
+     * @param number
+     * @param writer
+     * @throws IOException
+     */
+    void append(final Number number, final Utf8Writer writer)
+            throws IOException {
+        final int length = layout(number);
+        if (length > MAX_LENGTH) {
+            writer.append(text);
+        } else {
+            writer.writeAscii(chars, 0, length);
+        }
+    }
+
+    /**
+     * Writes Json text of the number into the writer.
+     * @param number
+     * @param writer
+     * @throws IOException
+     */
+    void append(final Number number, final Writer writer)
+            throws IOException {
+        final int length = layout(number);
+        if (length > MAX_LENGTH) {
+            writer.append(text);
+        } else {
+            writer.write(chars, 0, length);
+        }
+    }
+
+    /**
+     * Lays out Json text of the number into the text, and into the
+     * characters when it fits.
+     * @param number
+     * @return length of the text
+     */
+    private int layout(final Number number) {
+        text.setLength(0);
+        append(number, text);
+        final int length = text.length();
+        if (length <= MAX_LENGTH) {
+            text.getChars(0, length, chars, 0);
+        }
+        return length;
+    }
+
+    /**
+     * Determines if the number is an integer fitting in long.
+     * @param number
+     * @return flag
+     */
+    private static boolean isLong(final Number number) {
+        return number instanceof Integer || number instanceof Long
+                || number instanceof Short || number instanceof Byte
+                || number instanceof BigInteger bigInteger
+                && bigInteger.bitLength() < Long.SIZE;
+    }
+
+    /**
+     * Appends Json text of the number.
+     * @param number
+     * @param sb
+     */
+    private static void append(final Number number, final StringBuilder sb) {
+        if (isLong(number)) {
+            sb.append(number.longValue());
+        } else if (number instanceof Double || number instanceof Float) {
+            if (!isFinite(number)) {
+                sb.append("null");
+                return;
+            }
+            final int start = sb.length();
+            if (number instanceof Float) {
+                sb.append(number.floatValue());
+            } else {
+                sb.append(number.doubleValue());
+            }
+            canonical(sb, start);
+        } else {
+            sb.append(number.toString());
+        }
+    }
+
+    /**
+     * Gets Json text of the number, for sinks without a buffer.
+     * @param number
+     * @return text
+     */
+    private static String text(final Number number) {
+        if (number instanceof Double || number instanceof Float) {
+            if (!isFinite(number)) {
+                return "null";
+            }
+            final String shortest = number.toString();
+            // Java writes the plain notation the same, from 1e-3 till 1e7
+            if (shortest.indexOf('E') != -1) {
+                final StringBuilder sb = new StringBuilder(MAX_LENGTH);
+                append(number, sb);
+                return sb.toString();
+            }
+            return shortest;
+        }
+        return isLong(number) ? Long.toString(number.longValue())
+                : number.toString();
+    }
+
+    /**
+     * Determines if the double or float is finite.
+     * @param number - double or float
+     * @return flag
+     */
+    private static boolean isFinite(final Number number) {
+        return number instanceof Float ? Float.isFinite(number.floatValue())
+                : Double.isFinite(number.doubleValue());
+    }
+
+    /**
+     * Replaces the shortest text at the end of the StringBuilder, as
+     * written by Java, with its canonical form.
+     * @param sb
+     * @param start - start of the shortest text
+     */
+    private static void canonical(final StringBuilder sb, final int start) {
+        final int end = sb.length();
+        int i = start;
+        if (sb.charAt(i) == '-') {
+            sb.append('-');
+            i++;
+        }
+        // Value is 0.digits times 10 to the power of point
+        int first = i;
+        int count = 0;
+        int significant = 0;
+        int point = 0;
+        boolean fraction = false;
+        for (; i < end; i++) {
+            final char ch = sb.charAt(i);
+            if (ch == '.') {
+                fraction = true;
+            } else if (ch == 'E') {
+                point += Integer.parseInt(sb, i + 1, end, RADIX);
+                break;
+            } else if (ch != '0' || count != 0) {
+                if (count++ == 0) {
+                    first = i;
+                }
+                if (ch != '0') {
+                    significant = count;
+                }
+                if (!fraction) {
+                    point++;
+                }
+            } else if (fraction) {
+                point--;
+            }
+        }
+        count = significant;
+        if (count == 0) {
+            sb.append("0.0");
+        } else if (point < MIN_PLAIN || point > MAX_PLAIN) {
+            final int next = digits(sb, first, 1);
+            sb.append('.');
+            if (count == 1) {
+                sb.append('0');
+            } else {
+                digits(sb, next, count - 1);
+            }
+            sb.append('e').append(point > 0 ? '+' : '-')
+                    .append(Math.abs(point - 1));
+        } else if (point <= 0) {
+            sb.append("0.");
+            zeros(sb, -point);
+            digits(sb, first, count);
+        } else if (point < count) {
+            final int next = digits(sb, first, point);
+            sb.append('.');
+            digits(sb, next, count - point);
+        } else {
+            digits(sb, first, count);
+            zeros(sb, point - count);
+            sb.append(".0");
+        }
+        sb.delete(start, end);
+    }
+
+    /**
+     * Appends significant digits of the shortest text, skipping the
+     * decimal point.
+     * @param sb
+     * @param from - index of the first digit
+     * @param count - number of digits
+     * @return index after the last digit
+     */
+    private static int digits(final StringBuilder sb, final int from,
+                              final int count) {
+        int index = from;
+        for (int appended = 0; appended < count; appended++) {
+            char ch = sb.charAt(index++);
+            if (ch == '.') {
+                ch = sb.charAt(index++);
+            }
+            sb.append(ch);
+        }
+        return index;
+    }
+
+    /**
+     * Appends zeros.
+     * @param sb
+     * @param count
+     */
+    private static void zeros(final StringBuilder sb, final int count) {
+        for (int i = 0; i < count; i++) {
+            sb.append('0');
+        }
+    }
+
+    /**
+     * Writer passing everything to a writer, which lends its buffer to
+     * the numbers written. Json text of containers written into a Writer
+     * goes through one, so that numbers do not create Strings.
+     */
+    static final class Sink extends Writer {
+
+        /**
+         * Writer written into.
+         */
+        private final Writer writer;
+
+        /**
+         * Writer of numbers, created on first use.
+         */
+        private NumberWriter numberWriter;
+
+        /**
+         * Creates sink of the writer.
+         * @param theWriter
+         */
+        Sink(final Writer theWriter) {
+            this.writer = theWriter;
+        }
+
+        /**
+         * Gets writer of numbers.
+         * @return number writer
+         */
+        private NumberWriter numberWriter() {
+            if (numberWriter == null) {
+                numberWriter = new NumberWriter();
+            }
+            return numberWriter;
+        }
+
+        @Override
+        public void write(final int c) throws IOException {
+            writer.write(c);
+        }
+
+        @Override
+        public void write(final char[] cbuf, final int off, final int len)
+                throws IOException {
+            writer.write(cbuf, off, len);
+        }
+
+        @Override
+        public void write(final String str, final int off, final int len)
+                throws IOException {
+            writer.write(str, off, len);
+        }
+
+        @Override
+        public Writer append(final CharSequence csq) throws IOException {
+            writer.append(csq);
+            return this;
+        }
+
+        @Override
+        public Writer append(final CharSequence csq, final int start,
+                             final int end) throws IOException {
+            writer.append(csq, start, end);
+            return this;
+        }
+
+        @Override
+        public void flush() throws IOException {
+            writer.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            writer.close();
+        }
+    }
+}
@@ -0,0 +1,230 @@
+package com.techatpark.sjson;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Parses a top level array of UTF-8 bytes in parallel. A structural
+ * scan finds the top level commas, then elements are parsed by
+ * fork/join tasks, each over its own slice, and assembled in order.
+ * Other values are parsed sequentially.
+ */
+final class ParallelParser {
+
+    /**
+     * Bytes parsed by a task without splitting further.
+     */
+    static final int TASK_BYTES = 64 * 1024;
+
+    /**
+     * Initial capacity of element bounds.
+     */
+    private static final int CAPACITY = 1024;
+
+    /**
+     * Content.
+     */
+    private final ByteBuffer content;
+
+    /**
+     * Index of the delimiter before each element ('[' or ','),
+     * followed by index of the closing ']'.
+     */
+    private int[] bounds;
+
+    /**
+     * Number of elements.
+     */
+    private int size;
+
+    /**
+     * Values of the elements.
+     */
+    private Object[] values;
+
+    /**
+     * Creates Parallel Parser for the remaining bytes of the buffer.
+     * @param theContent
+     */
+    private ParallelParser(final ByteBuffer theContent) {
+        this.content = theContent;
+    }
+
+    /**
+     * Reads remaining UTF-8 encoded bytes of the buffer as a Java Object.
+     * @param byteBuffer
+     * @param pool - pool running the tasks
+     * @return object
+     * @throws IOException
+     */
+    static Object parse(final ByteBuffer byteBuffer,
+                        final ForkJoinPool pool) throws IOException {
+        final ParallelParser parser = new ParallelParser(byteBuffer);
+        if (!parser.scan()) {
+            return new Utf8Parser(byteBuffer).parseDocument();
+        }
+        if (parser.size == 0) {
+            return Collections.emptyList();
+        }
+        parser.values = new Object[parser.size];
+        try {
+            pool.invoke(parser.new ElementsTask(0, parser.size));
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        return new ArrayList<>(Arrays.asList(parser.values));
+    }
+
+    /**
+     * Finds the bounds of the top level array elements.
+     * @return false if the content is not an array
+     */
+    private boolean scan() {
+        final int limit = content.limit();
+        int index = content.position();
+        while (index < limit && isSpace(content.get(index))) {
+            index++;
+        }
+        if (index == limit || content.get(index) != '[') {
+            return false;
+        }
+        bounds = new int[CAPACITY];
+        bounds[0] = index;
+        boolean blank = true;
+        int depth = 1;
+        while (++index < limit) {
+            final byte value = content.get(index);
+            switch (value) {
+                case '"' -> index = endOfString(index + 1, limit);
+                case '[', '{' -> depth++;
+                case ']', '}' -> {
+                    if (--depth == 0) {
+                        if (value != ']') {
+                            throw new IllegalArgumentException(
+                                    Json.ILLEGAL_JSON_VALUE);
+                        }
+                        if (!blank || size != 0) {
+                            addBound(index);
+                        }
+                        return true;
+                    }
+                }
+                case ',' -> {
+                    if (depth == 1) {
+                        addBound(index);
+                    }
+                }
+                default -> {
+                    if (isSpace(value)) {
+                        continue;
+                    }
+                }
+            }
+            blank = false;
+        }
+        throw new IllegalArgumentException(Json.ILLEGAL_JSON_VALUE);
+    }
+
+    /**
+     * Finds the closing quote of a string.
+     * @param from - index after the opening quote
+     * @param limit
+     * @return index of the closing quote
+     */
+    private int endOfString(final int from, final int limit) {
+        for (int index = from; index < limit; index++) {
+            final byte value = content.get(index);
+            if (value == '"') {
+                return index;
+            }
+            if (value == '\\') {
+                index++;
+            }
+        }
+        throw new IllegalArgumentException(Json.ILLEGAL_JSON_VALUE);
+    }
+
+    /**
+     * Adds bound of an element.
+     * @param index - index of the delimiter after the element
+     */
+    private void addBound(final int index) {
+        if (++size == bounds.length) {
+            bounds = Arrays.copyOf(bounds, size * 2);
+        }
+        bounds[size] = index;
+    }
+
+    /**
+     * Checks for white space.
+     * @param value
+     * @return flag
+     */
+    private static boolean isSpace(final byte value) {
+        return value == ' ' || value == '\n'
+                || value == '\r' || value == '\t';
+    }
+
+    /**
+     * Parses a range of elements, splitting it while it is large.
+     */
+    private final class ElementsTask extends RecursiveAction {
+
+        /**
+         * Serial version of the task.
+         */
+        private static final long serialVersionUID = 1L;
+
+        /**
+         * First element.
+         */
+        private final int from;
+
+        /**
+         * Element after the last.
+         */
+        private final int to;
+
+        /**
+         * Creates task for the elements.
+         * @param theFrom
+         * @param theTo
+         */
+        ElementsTask(final int theFrom, final int theTo) {
+            this.from = theFrom;
+            this.to = theTo;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > 1 && bounds[to] - bounds[from] > TASK_BYTES) {
+                final int middle = (from + to) >>> 1;
+                invokeAll(new ElementsTask(from, middle),
+                        new ElementsTask(middle, to));
+                return;
+            }
+            // One parser and view of the content for all the elements
+            final ByteBuffer element = content.duplicate();
+            Utf8Parser parser = null;
+            try {
+                for (int i = from; i < to; i++) {
+                    element.limit(bounds[i + 1]).position(bounds[i] + 1);
+                    if (parser == null) {
+                        parser = new Utf8Parser(element);
+                    } else {
+                        parser.reset(element);
+                    }
+                    values[i] = parser.parseDocument();
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.techatpark.sjson;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+
+/**
+ * Reusable parser for many documents, one after another. Read buffers
+ * and scratch buffers of strings and numbers are created once and
+ * kept across documents, so a parse allocates mostly for its values.
+ * <p>
+ * It is not thread safe. Use {@link ParserPool} to share contexts
+ * between threads.
+ */
+public final class ParserContext {
+
+    /**
+     * Empty content, so that a context does not hold the last document.
+     */
+    private static final byte[] EMPTY = new byte[0];
+
+    /**
+     * Parser for readers. Created on first use.
+     */
+    private ReaderParser readerParser;
+
+    /**
+     * Parser for UTF-8 content. Created on first use.
+     */
+    private Utf8Parser utf8Parser;
+
+    /**
+     * Reads JSON as a Java Object, like {@link Json#parse(Reader)}.
+     *
+     * @param reader - file reader
+     * @return object
+     * @throws IOException - throws io exception
+     */
+    public Object parse(final Reader reader) throws IOException {
+        if (readerParser == null) {
+            readerParser = new ReaderParser(reader);
+        } else {
+            readerParser.reset(reader);
+        }
+        try (reader) {
+            return readerParser.parseDocument();
+        } finally {
+            readerParser.reset(null);
+        }
+    }
+
+    /**
+     * Reads UTF-8 encoded JSON as a Java Object, like
+     * {@link Json#parse(InputStream)}.
+     *
+     * @param inputStream - UTF-8 encoded stream
+     * @return object
+     * @throws IOException - throws io exception
+     */
+    public Object parse(final InputStream inputStream) throws IOException {
+        if (utf8Parser == null) {
+            utf8Parser = new Utf8Parser(inputStream);
+        } else {
+            utf8Parser.reset(inputStream);
+        }
+        try (inputStream) {
+            return utf8Parser.parseDocument();
+        } finally {
+            utf8Parser.reset(EMPTY);
+        }
+    }
+
+    /**
+     * Reads UTF-8 encoded JSON as a Java Object, like
+     * {@link Json#parse(byte[])}.
+     *
+     * @param bytes - UTF-8 encoded content
+     * @return object
+     * @throws IOException - throws io exception
+     */
+    public Object parse(final byte[] bytes) throws IOException {
+        if (utf8Parser == null) {
+            utf8Parser = new Utf8Parser(bytes);
+        } else {
+            utf8Parser.reset(bytes);
+        }
+        try {
+            return utf8Parser.parseDocument();
+        } finally {
+            utf8Parser.reset(EMPTY);
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package com.techatpark.sjson;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * Bounded pool of {@link ParserContext}s shared by threads. A parse
+ * takes an idle context, or creates one when none is idle, and returns
+ * it afterwards unless the pool is full.
+ * <p>
+ * It is thread safe. Contexts are not bound to threads (unlike a
+ * ThreadLocal), so it suits virtual threads, which are many and short
+ * lived, and it never blocks a thread.
+ */
+public final class ParserPool {
+
+    /**
+     * Maximum idle contexts (Default).
+     */
+    public static final int DEFAULT_CAPACITY =
+            Runtime.getRuntime().availableProcessors() * 2;
+
+    /**
+     * Pool used unless one is given.
+     */
+    private static final ParserPool DEFAULT = new ParserPool();
+
+    /**
+     * Idle contexts.
+     */
+    private final BlockingQueue<ParserContext> contexts;
+
+    /**
+     * Creates Parser Pool with default capacity.
+     */
+    public ParserPool() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates Parser Pool.
+     * @param capacity - maximum idle contexts
+     */
+    public ParserPool(final int capacity) {
+        this.contexts = new ArrayBlockingQueue<>(capacity);
+    }
+
+    /**
+     * Gets the pool used unless one is given.
+     * @return parser pool
+     */
+    public static ParserPool getDefault() {
+        return DEFAULT;
+    }
+
+    /**
+     * Reads JSON as a Java Object, like {@link Json#parse(Reader)}.
+     *
+     * @param reader - file reader
+     * @return object
+     * @throws IOException - throws io exception
+     */
+    public Object parse(final Reader reader) throws IOException {
+        final ParserContext context = acquire();
+        try {
+            return context.parse(reader);
+        } finally {
+            release(context);
+        }
+    }
+
+    /**
+     * Reads UTF-8 encoded JSON as a Java Object, like
+     * {@link Json#parse(InputStream)}.
+     *
+     * @param inputStream - UTF-8 encoded stream
+     * @return object
+     * @throws IOException - throws io exception
+     */
+    public Object parse(final InputStream inputStream) throws IOException {
+        final ParserContext context = acquire();
+        try {
+            return context.parse(inputStream);
+        } finally {
+            release(context);
+        }
+    }
+
+    /**
+     * Reads UTF-8 encoded JSON as a Java Object, like
+     * {@link Json#parse(byte[])}.
+     *
+     * @param bytes - UTF-8 encoded content
+     * @return object
+     * @throws IOException - throws io exception
+     */
+    public Object parse(final byte[] bytes) throws IOException {
+        final ParserContext context = acquire();
+        try {
+            return context.parse(bytes);
+        } finally {
+            release(context);
+        }
+    }
+
+    /**
+     * Gets the number of idle contexts.
+     * @return idle contexts
+     */
+    public int size() {
+        return contexts.size();
+    }
+
+    /**
+     * Takes an idle context or creates one.
+     * @return context
+     */
+    private ParserContext acquire() {
+        final ParserContext context = contexts.poll();
+        return context == null ? new ParserContext() : context;
+    }
+
+    /**
+     * Returns the context to the pool, unless it is full.
+     * @param context
+     */
+    private void release(final ParserContext context) {
+        contexts.offer(context);
+    }
+}
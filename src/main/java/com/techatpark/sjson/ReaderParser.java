@@ -0,0 +1,267 @@
+package com.techatpark.sjson;
+
+import java.io.CharArrayReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.Arrays;
+
+/**
+ * Parser over a character reader. Reader is read ahead into a
+ * reusable char buffer, so it need not be buffered by the caller.
+ */
+final class ReaderParser extends Json.Parser {
+
+    /**
+     * Reader to the JSON Content.
+     */
+    private Reader reader;
+
+    /**
+     * Characters read ahead from the reader.
+     */
+    private final char[] buffer;
+
+    /**
+     * Index of the next unread character in buffer.
+     */
+    private int position;
+
+    /**
+     * Number of valid characters in buffer.
+     */
+    private int limit;
+
+    /**
+     * Creates Content extracter for the reader.
+     *
+     * @param theReader
+     */
+    ReaderParser(final Reader theReader) {
+        this.reader = theReader;
+        this.buffer = new char[BUFFER_SIZE];
+        this.position = 0;
+        this.limit = 0;
+    }
+
+    /**
+     * Creates Content extracter for the characters, which are read in
+     * place as its buffer.
+     *
+     * @param content
+     * @param length - number of characters
+     */
+    ReaderParser(final char[] content, final int length) {
+        this.reader = null;
+        this.buffer = content;
+        this.position = 0;
+        this.limit = length;
+    }
+
+    /**
+     * Gets index of the next unread character. It is an index of the
+     * content for parsers of characters.
+     * @return index
+     */
+    int position() {
+        return position;
+    }
+
+    /**
+     * Moves to an index of the content, for parsers of characters.
+     * @param index
+     */
+    void position(final int index) {
+        reset();
+        this.position = index;
+    }
+
+    /**
+     * Resets onto a new reader, keeping the buffers.
+     *
+     * @param theReader
+     */
+    void reset(final Reader theReader) {
+        reset();
+        this.reader = theReader;
+        this.position = 0;
+        this.limit = 0;
+    }
+
+    /**
+     * Refills the buffer from the reader.
+     * @return false if reader reached the end
+     * @throws IOException
+     */
+    private boolean fill() throws IOException {
+        if (reader == null) {
+            return false;
+        }
+        position = 0;
+        limit = Math.max(reader.read(buffer, 0, buffer.length), 0);
+        return limit != 0;
+    }
+
+    @Override
+    Json.Parser split(final int minLength) throws IOException {
+        char[] chunk = new char[minLength + BUFFER_SIZE];
+        int length = 0;
+        final int lookahead = takeLookahead();
+        if (lookahead != -1) {
+            chunk[length++] = (char) lookahead;
+        }
+        boolean endOfLine = false;
+        while (!endOfLine && (position < limit || fill())) {
+            int end = position;
+            while (end < limit && !endOfLine) {
+                endOfLine = buffer[end++] == '\n'
+                        && length + end - position >= minLength;
+            }
+            if (length + end - position > chunk.length) {
+                chunk = Arrays.copyOf(chunk,
+                        Math.max(length + end - position, chunk.length * 2));
+            }
+            System.arraycopy(buffer, position, chunk, length, end - position);
+            length += end - position;
+            position = end;
+        }
+        final Reader lines = new CharArrayReader(chunk, 0, length);
+        if (!endOfLine || position == limit && !fill()) {
+            // Rest of the content is short, so it is kept
+            reset(lines);
+            return null;
+        }
+        return inherit(new ReaderParser(lines));
+    }
+
+    @Override
+    public char nextClean() throws IOException {
+        do {
+            while (position < limit) {
+                final char character = buffer[position++];
+                if (!isSpace(character)) {
+                    return character;
+                }
+            }
+        } while (fill());
+        return (char) -1;
+    }
+
+    @Override
+    public char getCharacter() throws IOException {
+        if (position == limit && !fill()) {
+            throw new IllegalArgumentException(Json.ILLEGAL_JSON_VALUE);
+        }
+        return buffer[position++];
+    }
+
+    @Override
+    public int nextCharacter() throws IOException {
+        if (position == limit && !fill()) {
+            return -1;
+        }
+        return buffer[position++];
+    }
+
+    /**
+     * Finds closing quote of a string in the buffer.
+     * @return index of the quote, or -1 if it is not buffered or
+     * there is an escape before it
+     */
+    private int simpleStringEnd() {
+        for (int i = position; i < limit; i++) {
+            final char character = buffer[i];
+            if (character == '"') {
+                return i;
+            }
+            if (character == '\\') {
+                break;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public String nextSimpleString() {
+        final int end = simpleStringEnd();
+        if (end == -1) {
+            return null;
+        }
+        final String string = new String(buffer, position, end - position);
+        position = end + 1;
+        return string;
+    }
+
+    @Override
+    public String nextSimpleKey() {
+        final KeyCache keyCache = keyCache();
+        if (keyCache == null) {
+            return nextSimpleString();
+        }
+        final int end = simpleStringEnd();
+        if (end == -1) {
+            return null;
+        }
+        final String key = keyCache.get(buffer, position, end - position);
+        position = end + 1;
+        return key;
+    }
+
+    @Override
+    public char nextStringPart(final StringBuilder sb) throws IOException {
+        do {
+            final int start = position;
+            while (position < limit) {
+                final char character = buffer[position++];
+                if (character == '"' || character == '\\') {
+                    sb.append(buffer, start, position - start - 1);
+                    return character;
+                }
+            }
+            sb.append(buffer, start, limit - start);
+        } while (fill());
+        throw new IllegalArgumentException(Json.ILLEGAL_JSON_VALUE);
+    }
+
+    @Override
+    void skip(final int depth) throws IOException {
+        int open = depth;
+        boolean string = depth == 0;
+        boolean escaped = false;
+        do {
+            while (position < limit) {
+                final char value = buffer[position++];
+                if (string) {
+                    if (escaped) {
+                        escaped = false;
+                    } else if (value == '\\') {
+                        escaped = true;
+                    } else if (value == '"') {
+                        string = false;
+                        if (open == 0) {
+                            return;
+                        }
+                    }
+                } else if (value == '"') {
+                    string = true;
+                } else if (value == '{' || value == '[') {
+                    open++;
+                } else if ((value == '}' || value == ']') && --open == 0) {
+                    return;
+                }
+            }
+        } while (fill());
+        throw new IllegalArgumentException(Json.ILLEGAL_JSON_VALUE);
+    }
+
+    @Override
+    public void next(final char character) throws IOException {
+        do {
+            while (position < limit) {
+                if (buffer[position++] == character) {
+                    return;
+                }
+            }
+        } while (fill());
+        throw new IllegalArgumentException(Json.ILLEGAL_JSON_VALUE);
+    }
+}
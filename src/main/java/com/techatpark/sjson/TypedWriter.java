@@ -0,0 +1,370 @@
+package com.techatpark.sjson;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Array;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.RecordComponent;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Writes Json text of records, beans, enums and arrays, without
+ * converting them into Maps and Lists.
+ * <p>
+ * Writers are created once per class and cached. Properties are read
+ * through method handles, and their names are escaped and encoded only
+ * once. Records
+ * write their components in order, and a record of a sealed type starts
+ * with a {@value JsonBinder#TYPE_FIELD} field naming it, so that it can
+ * be read back by {@link Json#parse(java.io.Reader, Class)}. Beans are
+ * application classes with a public no-arg constructor, and write their
+ * getters in the order of the property names. Other classes, including
+ * classes of the JDK like {@code java.util.Date}, are written as their
+ * {@code toString()}.
+ */
+final class TypedWriter {
+
+    /**
+     * Writers by class.
+     */
+    private static final ClassValue<Writer> WRITERS = new ClassValue<>() {
+        @Override
+        protected Writer computeValue(final Class<?> type) {
+            return create(type);
+        }
+    };
+
+    /**
+     * Length of getter prefix "get".
+     */
+    private static final int GET = 3;
+
+    /**
+     * Length of getter prefix "is".
+     */
+    private static final int IS = 2;
+
+    /**
+     * Writer of enums, as their names.
+     */
+    private static final Writer ENUM = (value, appendable) -> {
+        appendable.append('"');
+        Escaper.escape(((Enum<?>) value).name(), appendable);
+        appendable.append('"');
+    };
+
+    /**
+     * Writer of arrays.
+     */
+    private static final Writer ARRAY = (value, appendable) -> {
+        appendable.append('[');
+        final int length = Array.getLength(value);
+        for (int i = 0; i < length; i++) {
+            if (i != 0) {
+                appendable.append(',');
+            }
+            Json.write(Array.get(value, i), appendable);
+        }
+        appendable.append(']');
+    };
+
+    /**
+     * Writer of other classes, as their toString.
+     */
+    private static final Writer TO_STRING = (value, appendable) ->
+            appendable.append(value.toString());
+
+    private TypedWriter() {
+    }
+
+    /**
+     * Writes Json text of the value.
+     * @param value - not null
+     * @param appendable
+     * @throws IOException
+     */
+    static void write(final Object value, final Appendable appendable)
+            throws IOException {
+        WRITERS.get(value.getClass()).write(value, appendable);
+    }
+
+    /**
+     * Creates writer of the class.
+     * @param type
+     * @return writer
+     */
+    private static Writer create(final Class<?> type) {
+        if (Enum.class.isAssignableFrom(type)) {
+            return ENUM;
+        }
+        if (type.isArray()) {
+            return ARRAY;
+        }
+        if (type.isRecord()) {
+            return record(type);
+        }
+        if (isJdk(type)) {
+            return TO_STRING;
+        }
+        final Map<String, Method> getters = getters(type);
+        if (getters.isEmpty()) {
+            return TO_STRING;
+        }
+        final String[] names = getters.keySet().toArray(String[]::new);
+        final MethodHandle[] handles = new MethodHandle[names.length];
+        for (int i = 0; i < names.length; i++) {
+            handles[i] = handle(getters.get(names[i]));
+        }
+        return new PropertiesWriter(prefixes(null, names), handles);
+    }
+
+    /**
+     * Creates writer of a record.
+     * @param type
+     * @return writer
+     */
+    private static Writer record(final Class<?> type) {
+        final RecordComponent[] components = type.getRecordComponents();
+        final String[] names = new String[components.length];
+        final MethodHandle[] handles = new MethodHandle[components.length];
+        for (int i = 0; i < components.length; i++) {
+            names[i] = components[i].getName();
+            handles[i] = handle(components[i].getAccessor());
+        }
+        final String typeName = hasSealedType(type) ? type.getSimpleName()
+                : null;
+        return new PropertiesWriter(prefixes(typeName, names), handles);
+    }
+
+    /**
+     * Determines if any interface of the type, including the interfaces
+     * they extend, is sealed.
+     * @param type
+     * @return flag
+     */
+    private static boolean hasSealedType(final Class<?> type) {
+        for (final Class<?> superType : type.getInterfaces()) {
+            if (superType.isSealed() || hasSealedType(superType)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Determines if the class is of the JDK, i.e. loaded by the boot or
+     * platform class loader. Such classes are not written as beans, as
+     * their getters are not meant as Json properties.
+     * @param type
+     * @return flag
+     */
+    private static boolean isJdk(final Class<?> type) {
+        final ClassLoader classLoader = type.getClassLoader();
+        return classLoader == null
+                || classLoader == ClassLoader.getPlatformClassLoader();
+    }
+
+    /**
+     * Finds getters of a bean, by property name.
+     * @param type
+     * @return getters, empty if it is not a bean
+     */
+    private static Map<String, Method> getters(final Class<?> type) {
+        final Map<String, Method> getters = new TreeMap<>();
+        try {
+            type.getConstructor();
+        } catch (final NoSuchMethodException e) {
+            return getters;
+        }
+        for (final Method method : type.getMethods()) {
+            final String name = method.getName();
+            if (Modifier.isStatic(method.getModifiers())
+                    || method.getParameterCount() != 0
+                    || method.getDeclaringClass() == Object.class) {
+                continue;
+            }
+            if (name.length() > GET && name.startsWith("get")
+                    && method.getReturnType() != void.class) {
+                getters.put(property(name.substring(GET)), method);
+            } else if (name.length() > IS && name.startsWith("is")
+                    && method.getReturnType() == boolean.class) {
+                getters.put(property(name.substring(IS)), method);
+            }
+        }
+        return getters;
+    }
+
+    /**
+     * Gets property name of a getter name, e.g. name of getName and
+     * URL of getURL.
+     * @param name - getter name without prefix
+     * @return property name
+     */
+    private static String property(final String name) {
+        if (name.length() > 1 && Character.isUpperCase(name.charAt(1))) {
+            return name;
+        }
+        return Character.toLowerCase(name.charAt(0)) + name.substring(1);
+    }
+
+    /**
+     * Creates method handle of a getter, that takes and returns Object.
+     * @param method
+     * @return method handle
+     */
+    private static MethodHandle handle(final Method method) {
+        method.trySetAccessible();
+        try {
+            return MethodHandles.lookup().unreflect(method)
+                    .asType(MethodType.methodType(Object.class,
+                            Object.class));
+        } catch (final IllegalAccessException e) {
+            throw new UnsupportedOperationException("Can not write "
+                    + method.getDeclaringClass(), e);
+        }
+    }
+
+    /**
+     * Creates escaped Json text before each property, with the brace or
+     * comma and the field name.
+     * @param typeName - value of the type field, null for none
+     * @param names - property names
+     * @return prefixes
+     */
+    private static String[] prefixes(final String typeName,
+                                     final String[] names) {
+        final StringBuilder sb = new StringBuilder("{");
+        if (typeName != null) {
+            field(sb, JsonBinder.TYPE_FIELD);
+            sb.append('"');
+            escape(sb, typeName);
+            sb.append('"');
+        }
+        final String[] prefixes = new String[names.length + 1];
+        for (int i = 0; i < names.length; i++) {
+            if (i != 0 || typeName != null) {
+                sb.append(',');
+            }
+            field(sb, names[i]);
+            prefixes[i] = sb.toString();
+            sb.setLength(0);
+        }
+        prefixes[names.length] = sb.append('}').toString();
+        return prefixes;
+    }
+
+    /**
+     * Appends field name and colon.
+     * @param sb
+     * @param name
+     */
+    private static void field(final StringBuilder sb, final String name) {
+        sb.append('"');
+        escape(sb, name);
+        sb.append("\":");
+    }
+
+    /**
+     * Appends escaped text.
+     * @param sb
+     * @param text
+     */
+    private static void escape(final StringBuilder sb, final String text) {
+        try {
+            Escaper.escape(text, sb);
+        } catch (final IOException e) {
+            // StringBuilder does not throw
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Writes Json text of an object.
+     */
+    @FunctionalInterface
+    private interface Writer {
+
+        /**
+         * Writes Json text of the value.
+         * @param value
+         * @param appendable
+         * @throws IOException
+         */
+        void write(Object value, Appendable appendable) throws IOException;
+    }
+
+    /**
+     * Writer of records and beans, as objects of their properties.
+     */
+    private static final class PropertiesWriter implements Writer {
+
+        /**
+         * Text before each property, and the closing brace at the end.
+         */
+        private final String[] prefixes;
+
+        /**
+         * UTF-8 bytes of the prefixes.
+         */
+        private final byte[][] bytes;
+
+        /**
+         * Getters of the properties.
+         */
+        private final MethodHandle[] getters;
+
+        /**
+         * Creates writer.
+         * @param thePrefixes
+         * @param theGetters
+         */
+        PropertiesWriter(final String[] thePrefixes,
+                         final MethodHandle[] theGetters) {
+            this.prefixes = thePrefixes;
+            this.bytes = new byte[thePrefixes.length][];
+            for (int i = 0; i < thePrefixes.length; i++) {
+                bytes[i] = thePrefixes[i].getBytes(StandardCharsets.UTF_8);
+            }
+            this.getters = theGetters;
+        }
+
+        @Override
+        public void write(final Object value, final Appendable appendable)
+                throws IOException {
+            final Utf8Writer writer = appendable instanceof Utf8Writer
+                    ? (Utf8Writer) appendable : null;
+            for (int i = 0; i <= getters.length; i++) {
+                if (writer == null) {
+                    appendable.append(prefixes[i]);
+                } else {
+                    writer.write(bytes[i]);
+                }
+                if (i < getters.length) {
+                    Json.write(get(getters[i], value), appendable);
+                }
+            }
+        }
+
+        /**
+         * Gets the property.
+         * @param getter
+         * @param value
+         * @return property value
+         */
+        private static Object get(final MethodHandle getter,
+                                  final Object value) {
+            try {
+                return (Object) getter.invokeExact(value);
+            } catch (final RuntimeException | Error e) {
+                throw e;
+            } catch (final Throwable e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,467 @@
+package com.techatpark.sjson;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Parser over UTF-8 bytes. Structure characters are compared as
+ * bytes and only string contents are decoded.
+ */
+final class Utf8Parser extends Json.Parser {
+
+    /**
+     * Lead byte of a three byte sequence.
+     */
+    private static final int THREE_BYTES = 0xE0;
+
+    /**
+     * Lead byte of a four byte sequence.
+     */
+    private static final int FOUR_BYTES = 0xF0;
+
+    /**
+     * Lead byte of a two byte sequence.
+     */
+    private static final int TWO_BYTES = 0xC0;
+
+    /**
+     * Payload of a two byte lead.
+     */
+    private static final int TWO_BYTES_MASK = 0x1F;
+
+    /**
+     * Payload of a three byte lead.
+     */
+    private static final int THREE_BYTES_MASK = 0x0F;
+
+    /**
+     * Payload of a four byte lead.
+     */
+    private static final int FOUR_BYTES_MASK = 0x07;
+
+    /**
+     * Payload of a continuation byte.
+     */
+    private static final int CONTINUATION_MASK = 0x3F;
+
+    /**
+     * Bits carried by a continuation byte.
+     */
+    private static final int CONTINUATION_BITS = 6;
+
+    /**
+     * Bits carried by two continuation bytes.
+     */
+    private static final int TWO_CONTINUATION_BITS = 12;
+
+    /**
+     * Bits carried by three continuation bytes.
+     */
+    private static final int THREE_CONTINUATION_BITS = 18;
+
+    /**
+     * Mask for unsigned byte.
+     */
+    private static final int BYTE_MASK = 0xFF;
+
+    /**
+     * Stream to the JSON Content. Null for in memory content.
+     */
+    private InputStream inputStream;
+
+    /**
+     * Direct buffer to the JSON Content. Null unless content is
+     * a ByteBuffer without an accessible array.
+     */
+    private ByteBuffer byteBuffer;
+
+    /**
+     * Bytes read ahead from the content. It is the content itself
+     * for in memory content.
+     */
+    private byte[] buffer;
+
+    /**
+     * Buffer owned by the parser to read streams. Kept for reuse.
+     */
+    private byte[] readBuffer;
+
+    /**
+     * Index of the next unread byte in buffer.
+     */
+    private int position;
+
+    /**
+     * End of valid bytes in buffer.
+     */
+    private int limit;
+
+    /**
+     * Low surrogate to be returned after a supplementary character.
+     */
+    private char pendingLow;
+
+    /**
+     * Creates Content extracter for the stream.
+     *
+     * @param theInputStream
+     */
+    Utf8Parser(final InputStream theInputStream) {
+        reset(theInputStream);
+    }
+
+    /**
+     * Creates Content extracter for the bytes.
+     *
+     * @param bytes
+     */
+    Utf8Parser(final byte[] bytes) {
+        reset(bytes);
+    }
+
+    /**
+     * Creates Content extracter for remaining bytes of the buffer.
+     * Position of the given buffer is not changed.
+     *
+     * @param theByteBuffer
+     */
+    Utf8Parser(final ByteBuffer theByteBuffer) {
+        reset(theByteBuffer);
+    }
+
+    /**
+     * Resets onto a new stream, keeping the buffers.
+     *
+     * @param theInputStream
+     */
+    void reset(final InputStream theInputStream) {
+        reset();
+        this.inputStream = theInputStream;
+        this.byteBuffer = null;
+        this.buffer = readBuffer();
+        this.position = 0;
+        this.limit = 0;
+        this.pendingLow = 0;
+    }
+
+    /**
+     * Resets onto new bytes, keeping the buffers.
+     *
+     * @param bytes
+     */
+    void reset(final byte[] bytes) {
+        reset();
+        this.inputStream = null;
+        this.byteBuffer = null;
+        this.buffer = bytes;
+        this.position = 0;
+        this.limit = bytes.length;
+        this.pendingLow = 0;
+    }
+
+    /**
+     * Resets onto remaining bytes of a new buffer, keeping the buffers.
+     * Position of the given buffer is not changed.
+     *
+     * @param theByteBuffer
+     */
+    void reset(final ByteBuffer theByteBuffer) {
+        reset();
+        this.inputStream = null;
+        if (theByteBuffer.hasArray()) {
+            this.byteBuffer = null;
+            this.buffer = theByteBuffer.array();
+            this.position = theByteBuffer.arrayOffset()
+                    + theByteBuffer.position();
+            this.limit = theByteBuffer.arrayOffset()
+                    + theByteBuffer.limit();
+        } else {
+            this.byteBuffer = theByteBuffer.duplicate();
+            this.buffer = readBuffer();
+            this.position = 0;
+            this.limit = 0;
+        }
+        this.pendingLow = 0;
+    }
+
+    /**
+     * Gets the buffer to read streams, creating it on first use.
+     * @return buffer
+     */
+    private byte[] readBuffer() {
+        if (readBuffer == null) {
+            readBuffer = new byte[BUFFER_SIZE];
+        }
+        return readBuffer;
+    }
+
+    /**
+     * Refills the buffer from the content.
+     * @return false if content reached the end
+     * @throws IOException
+     */
+    private boolean fill() throws IOException {
+        if (inputStream != null) {
+            position = 0;
+            limit = Math.max(inputStream.read(buffer, 0, buffer.length), 0);
+            return limit != 0;
+        }
+        if (byteBuffer != null && byteBuffer.hasRemaining()) {
+            position = 0;
+            limit = Math.min(buffer.length, byteBuffer.remaining());
+            byteBuffer.get(buffer, 0, limit);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Reads next byte.
+     * @return byte
+     * @throws IOException
+     * @throws IllegalArgumentException if EOF
+     */
+    private byte nextByte() throws IOException {
+        if (position == limit && !fill()) {
+            throw new IllegalArgumentException(Json.ILLEGAL_JSON_VALUE);
+        }
+        return buffer[position++];
+    }
+
+    /**
+     * Decodes a multi byte sequence. For supplementary characters
+     * high surrogate is returned and low surrogate is kept pending.
+     * @param lead unsigned lead byte
+     * @return char value
+     * @throws IOException
+     */
+    private char decode(final int lead) throws IOException {
+        if (lead < TWO_BYTES) {
+            throw new IllegalArgumentException(Json.ILLEGAL_JSON_VALUE);
+        }
+        if (lead < THREE_BYTES) {
+            return (char) ((lead & TWO_BYTES_MASK) << CONTINUATION_BITS
+                    | continuation());
+        }
+        if (lead < FOUR_BYTES) {
+            return (char) ((lead & THREE_BYTES_MASK)
+                    << TWO_CONTINUATION_BITS
+                    | continuation() << CONTINUATION_BITS
+                    | continuation());
+        }
+        final int codePoint = (lead & FOUR_BYTES_MASK)
+                << THREE_CONTINUATION_BITS
+                | continuation() << TWO_CONTINUATION_BITS
+                | continuation() << CONTINUATION_BITS
+                | continuation();
+        pendingLow = Character.lowSurrogate(codePoint);
+        return Character.highSurrogate(codePoint);
+    }
+
+    /**
+     * Reads payload of a continuation byte.
+     * @return payload bits
+     * @throws IOException
+     */
+    private int continuation() throws IOException {
+        return nextByte() & CONTINUATION_MASK;
+    }
+
+    /**
+     * Converts byte to char, decoding if it leads a sequence.
+     * @param value
+     * @return char value
+     * @throws IOException
+     */
+    private char toCharacter(final byte value) throws IOException {
+        return value >= 0 ? (char) value : decode(value & BYTE_MASK);
+    }
+
+    /**
+     * Takes the pending low surrogate.
+     * @return low surrogate
+     */
+    private char takePendingLow() {
+        final char low = pendingLow;
+        pendingLow = 0;
+        return low;
+    }
+
+    @Override
+    Json.Parser split(final int minLength) throws IOException {
+        byte[] chunk = new byte[minLength + BUFFER_SIZE];
+        int length = 0;
+        final int lookahead = takeLookahead();
+        if (lookahead != -1) {
+            // Values start with an ASCII character
+            chunk[length++] = (byte) lookahead;
+        }
+        boolean endOfLine = false;
+        while (!endOfLine && (position < limit || fill())) {
+            int end = position;
+            while (end < limit && !endOfLine) {
+                endOfLine = buffer[end++] == '\n'
+                        && length + end - position >= minLength;
+            }
+            if (length + end - position > chunk.length) {
+                chunk = Arrays.copyOf(chunk,
+                        Math.max(length + end - position, chunk.length * 2));
+            }
+            System.arraycopy(buffer, position, chunk, length, end - position);
+            length += end - position;
+            position = end;
+        }
+        if (!endOfLine || position == limit && !fill()) {
+            // Rest of the content is short, so it is kept
+            this.inputStream = null;
+            this.byteBuffer = null;
+            this.buffer = chunk;
+            this.position = 0;
+            this.limit = length;
+            return null;
+        }
+        return inherit(new Utf8Parser(ByteBuffer.wrap(chunk, 0, length)));
+    }
+
+    @Override
+    public char nextClean() throws IOException {
+        do {
+            while (position < limit) {
+                final byte value = buffer[position++];
+                if (value != ' ' && value != '\n'
+                        && value != '\r' && value != '\t') {
+                    return toCharacter(value);
+                }
+            }
+        } while (fill());
+        return (char) -1;
+    }
+
+    @Override
+    public char getCharacter() throws IOException {
+        if (pendingLow != 0) {
+            return takePendingLow();
+        }
+        return toCharacter(nextByte());
+    }
+
+    @Override
+    public int nextCharacter() throws IOException {
+        if (pendingLow != 0) {
+            return takePendingLow();
+        }
+        if (position == limit && !fill()) {
+            return -1;
+        }
+        return toCharacter(buffer[position++]);
+    }
+
+    /**
+     * Finds closing quote of a string in the buffer.
+     * @return index of the quote, or -1 if it is not buffered or
+     * there is an escape before it
+     */
+    private int simpleStringEnd() {
+        for (int i = position; i < limit; i++) {
+            final byte value = buffer[i];
+            if (value == '"') {
+                return i;
+            }
+            if (value == '\\') {
+                break;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public String nextSimpleString() {
+        final int end = simpleStringEnd();
+        if (end == -1) {
+            return null;
+        }
+        final String string = new String(buffer, position, end - position,
+                StandardCharsets.UTF_8);
+        position = end + 1;
+        return string;
+    }
+
+    @Override
+    public String nextSimpleKey() {
+        final KeyCache keyCache = keyCache();
+        final int end = keyCache == null ? -1 : simpleStringEnd();
+        if (end == -1) {
+            return nextSimpleString();
+        }
+        final String key = keyCache.get(buffer, position, end - position);
+        if (key == null) {
+            // Not ASCII
+            return nextSimpleString();
+        }
+        position = end + 1;
+        return key;
+    }
+
+    @Override
+    public char nextStringPart(final StringBuilder sb) throws IOException {
+        do {
+            while (position < limit) {
+                final byte value = buffer[position++];
+                if (value == '"' || value == '\\') {
+                    return (char) value;
+                }
+                sb.append(toCharacter(value));
+                if (pendingLow != 0) {
+                    sb.append(takePendingLow());
+                }
+            }
+        } while (fill());
+        throw new IllegalArgumentException(Json.ILLEGAL_JSON_VALUE);
+    }
+
+    @Override
+    void skip(final int depth) throws IOException {
+        int open = depth;
+        boolean string = depth == 0;
+        boolean escaped = false;
+        do {
+            while (position < limit) {
+                final byte value = buffer[position++];
+                if (string) {
+                    if (escaped) {
+                        escaped = false;
+                    } else if (value == '\\') {
+                        escaped = true;
+                    } else if (value == '"') {
+                        string = false;
+                        if (open == 0) {
+                            return;
+                        }
+                    }
+                } else if (value == '"') {
+                    string = true;
+                } else if (value == '{' || value == '[') {
+                    open++;
+                } else if ((value == '}' || value == ']') && --open == 0) {
+                    return;
+                }
+            }
+        } while (fill());
+        throw new IllegalArgumentException(Json.ILLEGAL_JSON_VALUE);
+    }
+
+    @Override
+    public void next(final char character) throws IOException {
+        do {
+            while (position < limit) {
+                if (buffer[position++] == character) {
+                    return;
+                }
+            }
+        } while (fill());
+        throw new IllegalArgumentException(Json.ILLEGAL_JSON_VALUE);
+    }
+}
@@ -0,0 +1,383 @@
+package com.techatpark.sjson;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * Writer of UTF-8 bytes. Characters are encoded directly into a byte
+ * buffer, without a charset encoder, and ASCII characters are copied
+ * as they are. Strings are escaped while they are encoded.
+ * <p>
+ * The buffer grows to hold all the content, unless it is written into
+ * an OutputStream or a ByteBuffer when it is full. Surrogate pairs are
+ * to be appended together, and malformed surrogates are written as '?'.
+ */
+final class Utf8Writer implements Appendable {
+
+    /**
+     * Characters encoded between checks of capacity.
+     */
+    private static final int CHUNK = 1024;
+
+    /**
+     * Maximum bytes of a character, i.e. a unicode escape.
+     */
+    private static final int MAX_BYTES = 6;
+
+    /**
+     * First non ASCII character.
+     */
+    private static final int ASCII_END = 0x80;
+
+    /**
+     * First character of three bytes.
+     */
+    private static final int THREE_BYTES_START = 0x800;
+
+    /**
+     * Lead of a two byte sequence.
+     */
+    private static final int TWO_BYTES = 0xC0;
+
+    /**
+     * Lead of a three byte sequence.
+     */
+    private static final int THREE_BYTES = 0xE0;
+
+    /**
+     * Lead of a four byte sequence.
+     */
+    private static final int FOUR_BYTES = 0xF0;
+
+    /**
+     * Continuation byte.
+     */
+    private static final int CONTINUATION = 0x80;
+
+    /**
+     * Payload of a continuation byte.
+     */
+    private static final int CONTINUATION_MASK = 0x3F;
+
+    /**
+     * Bits carried by a continuation byte.
+     */
+    private static final int CONTINUATION_BITS = 6;
+
+    /**
+     * Bits carried by two continuation bytes.
+     */
+    private static final int TWO_CONTINUATION_BITS = 12;
+
+    /**
+     * Bits carried by three continuation bytes.
+     */
+    private static final int THREE_CONTINUATION_BITS = 18;
+
+    /**
+     * Escape sequences of ASCII characters, null if there is none.
+     */
+    private static final byte[][] ESCAPES = new byte[ASCII_END][];
+
+    static {
+        for (char ch = 0; ch < ASCII_END; ch++) {
+            if (Escaper.needsEscape(ch)) {
+                final StringBuilder sb = new StringBuilder();
+                try {
+                    Escaper.escape(String.valueOf(ch), sb);
+                } catch (final IOException e) {
+                    // StringBuilder does not throw
+                    throw new IllegalStateException(e);
+                }
+                ESCAPES[ch] = ascii(sb);
+            }
+        }
+    }
+
+    /**
+     * Stream to write into when buffer is full. Null for other content.
+     */
+    private final OutputStream outputStream;
+
+    /**
+     * Buffer to write into when buffer is full. Null for other content.
+     */
+    private final ByteBuffer byteBuffer;
+
+    /**
+     * Buffer of the bytes written.
+     */
+    private byte[] buffer;
+
+    /**
+     * Number of bytes in buffer.
+     */
+    private int position;
+
+    /**
+     * Writer of numbers, created on first use.
+     */
+    private NumberWriter numberWriter;
+
+    /**
+     * Creates writer into a growing buffer.
+     */
+    Utf8Writer() {
+        this(null, null);
+    }
+
+    /**
+     * Creates writer into the stream.
+     * @param theOutputStream
+     */
+    Utf8Writer(final OutputStream theOutputStream) {
+        this(theOutputStream, null);
+    }
+
+    /**
+     * Creates writer into the remaining bytes of the buffer.
+     * @param theByteBuffer
+     */
+    Utf8Writer(final ByteBuffer theByteBuffer) {
+        this(null, theByteBuffer);
+    }
+
+    /**
+     * Creates writer.
+     * @param theOutputStream
+     * @param theByteBuffer
+     */
+    private Utf8Writer(final OutputStream theOutputStream,
+                       final ByteBuffer theByteBuffer) {
+        this.outputStream = theOutputStream;
+        this.byteBuffer = theByteBuffer;
+        this.buffer = new byte[Json.Parser.BUFFER_SIZE];
+    }
+
+    /**
+     * Gets the bytes of ASCII text.
+     * @param text
+     * @return bytes
+     */
+    private static byte[] ascii(final CharSequence text) {
+        final byte[] bytes = new byte[text.length()];
+        for (int i = 0; i < bytes.length; i++) {
+            bytes[i] = (byte) text.charAt(i);
+        }
+        return bytes;
+    }
+
+    @Override
+    public Utf8Writer append(final CharSequence csq) throws IOException {
+        final CharSequence text = csq == null ? "null" : csq;
+        write(text, 0, text.length(), false);
+        return this;
+    }
+
+    @Override
+    public Utf8Writer append(final CharSequence csq, final int start,
+                             final int end) throws IOException {
+        final CharSequence text = csq == null ? "null" : csq;
+        write(text, start, end, false);
+        return this;
+    }
+
+    @Override
+    public Utf8Writer append(final char c) throws IOException {
+        if (c < ASCII_END) {
+            ensure(1);
+            buffer[position++] = (byte) c;
+        } else {
+            write(String.valueOf(c), 0, 1, false);
+        }
+        return this;
+    }
+
+    /**
+     * Writes the string escaped as Json Text, without quotes.
+     * @param s
+     * @throws IOException
+     */
+    void escape(final String s) throws IOException {
+        write(s, 0, s.length(), true);
+    }
+
+    /**
+     * Writes part of ASCII characters.
+     * @param chars
+     * @param from
+     * @param to
+     * @throws IOException
+     */
+    void writeAscii(final char[] chars, final int from, final int to)
+            throws IOException {
+        ensure(to - from);
+        for (int i = from; i < to; i++) {
+            buffer[position++] = (byte) chars[i];
+        }
+    }
+
+    /**
+     * Gets the writer of numbers into this writer.
+     * @return number writer
+     */
+    NumberWriter numberWriter() {
+        if (numberWriter == null) {
+            numberWriter = new NumberWriter();
+        }
+        return numberWriter;
+    }
+
+    /**
+     * Writes the bytes.
+     * @param bytes
+     * @throws IOException
+     */
+    void write(final byte[] bytes) throws IOException {
+        ensure(bytes.length);
+        System.arraycopy(bytes, 0, buffer, position, bytes.length);
+        position += bytes.length;
+    }
+
+    /**
+     * Writes bytes in buffer into the stream or byte buffer, and flushes
+     * the stream.
+     * @throws IOException
+     * @throws java.nio.BufferOverflowException if byte buffer is full
+     */
+    void flush() throws IOException {
+        writeBuffer();
+        if (outputStream != null) {
+            outputStream.flush();
+        }
+    }
+
+    /**
+     * Gets the bytes written into a growing buffer.
+     * @return bytes
+     */
+    byte[] toByteArray() {
+        return Arrays.copyOf(buffer, position);
+    }
+
+    /**
+     * Encodes the characters, escaping them if needed.
+     * @param s
+     * @param start
+     * @param end
+     * @param escape - flag to escape as Json Text
+     * @throws IOException
+     */
+    private void write(final CharSequence s, final int start, final int end,
+                       final boolean escape) throws IOException {
+        int i = start;
+        while (i < end) {
+            final int chunkEnd = Math.min(end, i + CHUNK);
+            // Enough room for every character of the chunk
+            ensure((chunkEnd - i) * MAX_BYTES);
+            final byte[] bytes = buffer;
+            int pos = position;
+            while (i < chunkEnd) {
+                final char ch = s.charAt(i++);
+                if (ch < ASCII_END) {
+                    final byte[] escaped = escape ? ESCAPES[ch] : null;
+                    if (escaped == null) {
+                        bytes[pos++] = (byte) ch;
+                    } else {
+                        System.arraycopy(escaped, 0, bytes, pos,
+                                escaped.length);
+                        pos += escaped.length;
+                    }
+                } else if (escape && Escaper.needsEscape(ch)) {
+                    pos = unicodeEscape(ch, bytes, pos);
+                } else if (ch < THREE_BYTES_START) {
+                    bytes[pos++] = (byte) (TWO_BYTES
+                            | ch >> CONTINUATION_BITS);
+                    bytes[pos++] = continuation(ch);
+                } else if (!Character.isSurrogate(ch)) {
+                    bytes[pos++] = (byte) (THREE_BYTES
+                            | ch >> TWO_CONTINUATION_BITS);
+                    bytes[pos++] = continuation(ch >> CONTINUATION_BITS);
+                    bytes[pos++] = continuation(ch);
+                } else if (Character.isHighSurrogate(ch) && i < end
+                        && Character.isLowSurrogate(s.charAt(i))) {
+                    final int codePoint = Character.toCodePoint(ch,
+                            s.charAt(i++));
+                    bytes[pos++] = (byte) (FOUR_BYTES
+                            | codePoint >> THREE_CONTINUATION_BITS);
+                    bytes[pos++] = continuation(codePoint
+                            >> TWO_CONTINUATION_BITS);
+                    bytes[pos++] = continuation(codePoint
+                            >> CONTINUATION_BITS);
+                    bytes[pos++] = continuation(codePoint);
+                } else {
+                    bytes[pos++] = '?';
+                }
+            }
+            position = pos;
+        }
+    }
+
+    /**
+     * Puts the unicode escape of a character, e.g. {@code \u2019}.
+     * @param ch
+     * @param bytes
+     * @param pos - position to put at
+     * @return position after the escape
+     */
+    private static int unicodeEscape(final char ch, final byte[] bytes,
+                                     final int pos) {
+        final char[] hex = Escaper.HEX_DIGITS;
+        int i = pos;
+        bytes[i++] = '\\';
+        bytes[i++] = 'u';
+        bytes[i++] = (byte) hex[ch >> Escaper.FIRST_DIGIT & Escaper.HEX_MASK];
+        bytes[i++] = (byte) hex[ch >> Escaper.SECOND_DIGIT
+                & Escaper.HEX_MASK];
+        bytes[i++] = (byte) hex[ch >> Escaper.THIRD_DIGIT & Escaper.HEX_MASK];
+        bytes[i++] = (byte) hex[ch & Escaper.HEX_MASK];
+        return i;
+    }
+
+    /**
+     * Gets continuation byte of the low bits.
+     * @param bits
+     * @return byte
+     */
+    private static byte continuation(final int bits) {
+        return (byte) (CONTINUATION | bits & CONTINUATION_MASK);
+    }
+
+    /**
+     * Ensures room for the bytes in buffer, by writing it out or
+     * growing it.
+     * @param length
+     * @throws IOException
+     */
+    private void ensure(final int length) throws IOException {
+        if (position + length <= buffer.length) {
+            return;
+        }
+        writeBuffer();
+        if (position + length > buffer.length) {
+            buffer = Arrays.copyOf(buffer,
+                    Math.max(buffer.length * 2, position + length));
+        }
+    }
+
+    /**
+     * Writes bytes in buffer into the stream or byte buffer, if any.
+     * @throws IOException
+     */
+    private void writeBuffer() throws IOException {
+        if (outputStream != null) {
+            outputStream.write(buffer, 0, position);
+            position = 0;
+        } else if (byteBuffer != null) {
+            byteBuffer.put(buffer, 0, position);
+            position = 0;
+        }
+    }
+}
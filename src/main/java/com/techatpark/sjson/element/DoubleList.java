@@ -0,0 +1,46 @@
+package com.techatpark.sjson.element;
+
+import java.util.AbstractList;
+import java.util.RandomAccess;
+
+/**
+ * Unmodifiable List of decimals backed by a double array.
+ * Values are boxed on access into the same type as {@link JsonNumber},
+ * so it is equal to the List read by {@link
+ * com.techatpark.sjson.Json#parse(java.io.Reader)}.
+ */
+public final class DoubleList extends AbstractList<Number>
+        implements RandomAccess {
+
+    /**
+     * Values of the List.
+     */
+    private final double[] values;
+
+    /**
+     * Creates List for the values.
+     * @param theValues
+     */
+    DoubleList(final double[] theValues) {
+        this.values = theValues;
+    }
+
+    /**
+     * Gets the values, with the full precision of double. The array is
+     * not copied and must not be modified.
+     * @return values
+     */
+    public double[] doubleArray() {
+        return values;
+    }
+
+    @Override
+    public Number get(final int index) {
+        return JsonNumber.decimal(values[index]);
+    }
+
+    @Override
+    public int size() {
+        return values.length;
+    }
+}
@@ -4,11 +4,17 @@ import com.techatpark.sjson.Json;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 
 public final class JsonArray implements Json<List<?>> {
 
+    /**
+     * Initial capacity of primitive arrays.
+     */
+    private static final int CAPACITY = 10;
+
     /**
      * Json Elements of the Array.
      */
@@ -41,13 +47,162 @@ public final class JsonArray implements Json<List<?>> {
     }
 
 
+    /**
+     * Reads an Array value without creating the elements.
+     * Reader stops at next clean character.
+     * @param parser
+     * @return list
+     * @throws IOException
+     */
+    public static List<?> value(final Parser parser)
+            throws IOException {
+        parser.startArray();
+        final List<?> list;
+        final Object value = parser.isCompactNumbers()
+                ? compactValue(parser) : parser.parseValue();
+        // If Empty Array
+        if (value == parser) {
+            list = Collections.emptyList();
+        } else if (parser.isCompactNumbers() && isInteger(value)) {
+            list = integers(parser, (Number) value);
+        } else if (parser.isCompactNumbers() && value instanceof Double) {
+            list = decimals(parser, (Number) value);
+        } else {
+            list = values(parser, new ArrayList<>(), value);
+        }
+        parser.setCursorToNextClean();
+        parser.endArray();
+        return list;
+    }
+
+    /**
+     * Reads value of a compact array. Decimals are read as Double
+     * without narrowing to float, so that double arrays keep their
+     * precision.
+     * @param parser
+     * @return object, or the parser at the end of an array
+     * @throws IOException
+     */
+    private static Object compactValue(final Parser parser)
+            throws IOException {
+        final char character = parser.nextClean();
+        if (Character.isDigit(character)
+                || character == '+' || character == '-') {
+            parser.setCursor(character);
+            return JsonNumber.wideValue(parser, character);
+        }
+        return parser.parseValue(character);
+    }
+
+    /**
+     * Narrows a decimal read by compactValue, like other values of
+     * Arrays which are not compact.
+     * @param value
+     * @return value
+     */
+    private static Object narrow(final Object value) {
+        return value instanceof Double decimal
+                ? JsonNumber.decimal(decimal) : value;
+    }
+
+    /**
+     * Reads remaining values of an Array into the list.
+     * @param parser
+     * @param list
+     * @param value - value already read
+     * @return list
+     * @throws IOException
+     */
+    private static List<Object> values(final Parser parser,
+                                       final List<Object> list,
+                                       final Object value)
+            throws IOException {
+        list.add(value);
+        while (!endOfArray(parser)) {
+            list.add(parser.parseValue());
+        }
+        return list;
+    }
+
+    /**
+     * Reads remaining values of an Array into a long array as long as
+     * they are integers.
+     * @param parser
+     * @param first - value already read
+     * @return LongList, or ArrayList if a value is not an integer
+     * @throws IOException
+     */
+    private static List<?> integers(final Parser parser,
+                                    final Number first)
+            throws IOException {
+        long[] values = new long[CAPACITY];
+        int size = 0;
+        values[size++] = first.longValue();
+        while (!endOfArray(parser)) {
+            final Object value = compactValue(parser);
+            if (!isInteger(value)) {
+                final List<Object> list = new ArrayList<>(size + 1);
+                for (int i = 0; i < size; i++) {
+                    list.add(JsonNumber.narrow(values[i]));
+                }
+                return values(parser, list, narrow(value));
+            }
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = ((Number) value).longValue();
+        }
+        return new LongList(Arrays.copyOf(values, size));
+    }
+
+    /**
+     * Reads remaining values of an Array into a double array as long as
+     * they are decimals.
+     * @param parser
+     * @param first - value already read
+     * @return DoubleList, or ArrayList if a value is not a decimal
+     * @throws IOException
+     */
+    private static List<?> decimals(final Parser parser,
+                                    final Number first)
+            throws IOException {
+        double[] values = new double[CAPACITY];
+        int size = 0;
+        values[size++] = first.doubleValue();
+        while (!endOfArray(parser)) {
+            final Object value = compactValue(parser);
+            if (!(value instanceof Double)) {
+                final List<Object> list = new ArrayList<>(size + 1);
+                for (int i = 0; i < size; i++) {
+                    list.add(JsonNumber.decimal(values[i]));
+                }
+                return values(parser, list, value);
+            }
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = ((Number) value).doubleValue();
+        }
+        return new DoubleList(Arrays.copyOf(values, size));
+    }
+
+    /**
+     * Checks if value is an integer that fits in long.
+     * @param value
+     * @return flag
+     */
+    private static boolean isInteger(final Object value) {
+        return value instanceof Byte || value instanceof Short
+                || value instanceof Integer || value instanceof Long;
+    }
+
     /**
      * Determine array close character.
      * @param parser
      * @return flag
      * @throws IOException
      */
-    private boolean endOfArray(final Parser parser) throws IOException {
+    private static boolean endOfArray(final Parser parser) throws IOException {
         char character;
         if (parser.getCursor() == ',') {
             return false;
@@ -35,7 +35,18 @@ public final class JsonBoolean implements  Json<Boolean> {
             final Parser
                             parser,
             final boolean theValue) throws IOException {
-        this.value = theValue;
+        this.value = value(parser, theValue);
+    }
+
+    /**
+     * Reads Boolean value from Reader without creating the element.
+     * @param parser
+     * @param theValue value indicated by the first character
+     * @return value
+     * @throws IOException
+     */
+    public static Boolean value(final Parser parser,
+                                final boolean theValue) throws IOException {
         if (theValue) {
             char[] charBuffer = parser.next(THREE);
             if (charBuffer[0] != 'r'
@@ -52,6 +63,7 @@ public final class JsonBoolean implements  Json<Boolean> {
                 throw new IllegalArgumentException(ILLEGAL_JSON_VALUE);
             }
         }
+        return theValue;
     }
 
     @Override
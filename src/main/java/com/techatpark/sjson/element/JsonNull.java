@@ -22,12 +22,23 @@ public final class JsonNull implements  Json<Object> {
     public JsonNull(
                     final Parser
                             parser) throws IOException {
+        value(parser);
+    }
+
+    /**
+     * Reads Null value from Reader without creating the element.
+     * @param parser
+     * @return null
+     * @throws IOException
+     */
+    public static Object value(final Parser parser) throws IOException {
         char[] charBuffer = parser.next(LENGTH);
         if (charBuffer[0] != 'u'
             || charBuffer[1] != 'l'
             || charBuffer[2] != 'l') {
                 throw new IllegalArgumentException(ILLEGAL_JSON_VALUE);
         }
+        return null;
     }
 
     @Override
@@ -3,12 +3,15 @@ package com.techatpark.sjson.element;
 import com.techatpark.sjson.Json;
 
 import java.io.IOException;
-import java.io.Reader;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 
 /**
  * Parser for Numbers.
+ * <p>
+ * Digits are accumulated into a long while reading. Big types are
+ * created only when the digits do not fit, and doubles are computed
+ * without a String when they are exactly representable.
  */
 public final class JsonNumber implements Json<Number> {
 
@@ -21,101 +24,270 @@ public final class JsonNumber implements Json<Number> {
      */
     public static final int CAPACITY = 10;
 
+    /**
+     * Radix of the digits.
+     */
+    private static final int RADIX = 10;
+
+    /**
+     * Largest mantissa that is exact as double (2^53).
+     */
+    private static final long MAX_EXACT_MANTISSA = 1L << 53;
+
+    /**
+     * Exponent is not accumulated beyond this. Such numbers are
+     * read from their characters.
+     */
+    private static final int MAX_EXPONENT = 100_000;
+
+    /**
+     * Powers of ten that are exact as double.
+     */
+    private static final double[] POWERS_OF_TEN = {
+            1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+            1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+
     /**
      * Json Number.
      */
-    private final StringBuilder numberBuilder;
+    private final Number number;
 
     /**
      * Reads the number from reader.
      * Reader will stop at the next to the end of number.
      *
      * @param parser
-     * @param reader
      * @param startingChar
      * @throws IOException
      */
     public JsonNumber(
             final Parser parser,
-            final Reader reader,
             final char startingChar)
             throws IOException {
-        numberBuilder = new StringBuilder(CAPACITY);
-        numberBuilder.append(startingChar);
-        int read = reader.read();
-        char charactor = (char) read;
-        while (read  != -1) {
-
-            if (charactor == ','
-                    || charactor == '}'
-                    || charactor == ']') {
-                parser.setCursor(charactor);
-                break;
-            } else if (parser.isSpace(charactor)) {
-                parser.setCursor(parser.nextClean());
-                break;
-            }
-
-            numberBuilder.append(charactor);
-            read = reader.read();
-            charactor = (char) read;
-        }
+        number = value(parser, startingChar);
+    }
 
+    /**
+     * Reads Number value from reader without creating the element.
+     * Reader will stop at the next to the end of number.
+     *
+     * @param parser
+     * @param startingChar
+     * @return number
+     * @throws IOException
+     */
+    public static Number value(final Parser parser,
+                               final char startingChar) throws IOException {
+        return value(parser, startingChar, true);
+    }
 
+    /**
+     * Reads Number value like {@link #value(Parser, char)}, but decimals
+     * are not narrowed to float, so that they keep their precision.
+     *
+     * @param parser
+     * @param startingChar
+     * @return number, Double for decimals
+     * @throws IOException
+     */
+    static Number wideValue(final Parser parser,
+                            final char startingChar) throws IOException {
+        return value(parser, startingChar, false);
     }
 
-    @Override
-    public Number read() {
-        String numberStr = numberBuilder.toString();
-        try {
-            // Try to parse as different types based on the range
-            if (numberStr.contains(".")) {
-                // Check if the number is a decimal
-                double doubleValue = Double.parseDouble(numberStr);
-                if (doubleValue >= -Float.MAX_VALUE
-                        && doubleValue <= Float.MAX_VALUE) {
-                    return (float) doubleValue;
+    /**
+     * Reads Number value from reader.
+     *
+     * @param parser
+     * @param startingChar
+     * @param narrowDecimal - flag to narrow decimals to float
+     * @return number
+     * @throws IOException
+     */
+    private static Number value(final Parser parser,
+                                final char startingChar,
+                                final boolean narrowDecimal)
+            throws IOException {
+        // Characters are kept only for numbers which do not fit a long
+        char[] chars = parser.numberBuffer(CAPACITY);
+        int length = 0;
+        final boolean negative = startingChar == '-';
+        // Accumulated negatively, so that Long.MIN_VALUE fits
+        long mantissa = 0;
+        boolean overflow = false;
+        int digits = 0;
+        int fractionDigits = 0;
+        boolean decimal = false;
+        boolean exponential = false;
+        boolean negativeExponent = false;
+        int exponentLength = 0;
+        int exponent = 0;
+
+        int character = startingChar;
+        if (character == '-' || character == '+') {
+            chars[length++] = startingChar;
+            character = parser.nextCharacter();
+        }
+        for (;; character = parser.nextCharacter()) {
+            if (character >= '0' && character <= '9') {
+                final int digit = character - '0';
+                if (exponential) {
+                    exponentLength++;
+                    exponent = Math.min(exponent * RADIX + digit,
+                            MAX_EXPONENT);
                 } else {
-                    return doubleValue;
+                    digits++;
+                    if (decimal) {
+                        fractionDigits++;
+                    }
+                    if (mantissa < (Long.MIN_VALUE + digit) / RADIX) {
+                        overflow = true;
+                    } else {
+                        mantissa = mantissa * RADIX - digit;
+                    }
                 }
+            } else if (character == '.' && !decimal && !exponential) {
+                decimal = true;
+            } else if ((character == 'e' || character == 'E')
+                    && digits != 0 && !exponential) {
+                exponential = true;
+            } else if ((character == '-' || character == '+')
+                    && (chars[length - 1] == 'e'
+                    || chars[length - 1] == 'E')) {
+                negativeExponent = character == '-';
             } else {
-                // Check if the number is an integer
-                if (numberBuilder.length() > DEFAULT_MAX_NUM_LEN) {
+                break;
+            }
+            if (length == chars.length) {
+                if (length == DEFAULT_MAX_NUM_LEN) {
                     throw new IllegalArgumentException(
                             "Number value length exceeds the maximum allowed ("
                                     + DEFAULT_MAX_NUM_LEN + ")");
                 }
-                long longValue = Long.parseLong(numberStr);
-                if (longValue >= Byte.MIN_VALUE
-                        && longValue <= Byte.MAX_VALUE) {
-                    return (byte) longValue;
-                } else if (longValue >= Short.MIN_VALUE
-                        && longValue <= Short.MAX_VALUE) {
-                    return (short) longValue;
-                } else if (longValue >= Integer.MIN_VALUE
-                        && longValue <= Integer.MAX_VALUE) {
-                    return (int) longValue;
-                } else {
-                    return longValue;
-                }
+                chars = parser.numberBuffer(Math.min(length * 2,
+                        DEFAULT_MAX_NUM_LEN));
             }
-        } catch (NumberFormatException e) {
-            return parseBigNumber(numberStr);
+            chars[length++] = (char) character;
+        }
+
+        if (digits == 0 || exponential && exponentLength == 0) {
+            throw new IllegalArgumentException(ILLEGAL_JSON_VALUE);
+        }
+        end(parser, character);
+
+        if (decimal) {
+            final double doubleValue = overflow
+                    ? Double.parseDouble(new String(chars, 0, length))
+                    : toDouble(mantissa, negative, (negativeExponent
+                            ? -exponent : exponent) - fractionDigits,
+                            chars, length);
+            return narrowDecimal ? decimal(doubleValue) : doubleValue;
+        }
+        if (exponential) {
+            return toBigNumber(new BigDecimal(chars, 0, length));
         }
+        if (overflow || !negative && mantissa == Long.MIN_VALUE) {
+            return new BigInteger(new String(chars, 0, length));
+        }
+        return narrow(negative ? mantissa : -mantissa);
     }
 
-    private Number parseBigNumber(final String numberStr) {
-        try {
-            return new BigInteger(numberStr); // Try BigInteger first
-        } catch (NumberFormatException e) {
-            // Only create BigDecimal if BigInteger fails
-            BigDecimal bd = new BigDecimal(numberStr);
-            try {
-                // Convert to BigInteger if there's no fraction
-                return bd.toBigIntegerExact();
-            } catch (ArithmeticException ex) {
-                return bd; // If it's a decimal, return BigDecimal
+    /**
+     * Sets cursor of the parser at the character that ends the number.
+     * @param parser
+     * @param character
+     * @throws IOException
+     */
+    private static void end(final Parser parser, final int character)
+            throws IOException {
+        if (character == ','
+                || character == '}'
+                || character == ']') {
+            parser.setCursor((char) character);
+        } else if (character != -1) {
+            if (!parser.isSpace((char) character)) {
+                throw new IllegalArgumentException(ILLEGAL_JSON_VALUE);
             }
+            parser.setCursor(parser.nextClean());
         }
     }
+
+    /**
+     * Computes double from the negative mantissa and power of ten.
+     * It is exact (and so correctly rounded) when both of them are
+     * exact as double. Otherwise it is read from the characters.
+     * @param mantissa - negative digits
+     * @param negative
+     * @param powerOfTen
+     * @param chars
+     * @param length
+     * @return double
+     */
+    private static double toDouble(final long mantissa,
+                                   final boolean negative,
+                                   final int powerOfTen,
+                                   final char[] chars,
+                                   final int length) {
+        if (mantissa < -MAX_EXACT_MANTISSA
+                || powerOfTen <= -POWERS_OF_TEN.length
+                || powerOfTen >= POWERS_OF_TEN.length) {
+            return Double.parseDouble(new String(chars, 0, length));
+        }
+        final double value = powerOfTen < 0
+                ? -mantissa / POWERS_OF_TEN[-powerOfTen]
+                : -mantissa * POWERS_OF_TEN[powerOfTen];
+        return negative ? -value : value;
+    }
+
+    /**
+     * Converts to BigInteger if there's no fraction.
+     * @param bigDecimal
+     * @return number
+     */
+    private static Number toBigNumber(final BigDecimal bigDecimal) {
+        if (bigDecimal.signum() == 0
+                || bigDecimal.stripTrailingZeros().scale() <= 0) {
+            return bigDecimal.toBigInteger();
+        }
+        return bigDecimal;
+    }
+
+    /**
+     * Narrows to float if it is in the range of float.
+     * @param doubleValue
+     * @return number
+     */
+    static Number decimal(final double doubleValue) {
+        if (doubleValue >= -Float.MAX_VALUE
+                && doubleValue <= Float.MAX_VALUE) {
+            return (float) doubleValue;
+        }
+        return doubleValue;
+    }
+
+    /**
+     * Narrows to the smallest type that holds the value.
+     * @param longValue
+     * @return number
+     */
+    static Number narrow(final long longValue) {
+        if (longValue >= Byte.MIN_VALUE
+                && longValue <= Byte.MAX_VALUE) {
+            return (byte) longValue;
+        } else if (longValue >= Short.MIN_VALUE
+                && longValue <= Short.MAX_VALUE) {
+            return (short) longValue;
+        } else if (longValue >= Integer.MIN_VALUE
+                && longValue <= Integer.MAX_VALUE) {
+            return (int) longValue;
+        } else {
+            return longValue;
+        }
+    }
+
+    @Override
+    public Number read() {
+        return number;
+    }
 }
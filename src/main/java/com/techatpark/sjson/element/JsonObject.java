@@ -13,7 +13,7 @@ public final class JsonObject implements Json<Map<String, Object>> {
     /**
      * Json Value.
      */
-    private final Map<JsonString, Json<?>> jsonObject;
+    private final Map<String, Json<?>> jsonObject;
 
     /**
      * Reads Object from a reader. Reader will
@@ -32,9 +32,9 @@ public final class JsonObject implements Json<Map<String, Object>> {
             jsonObject = Collections.emptyMap();
         } else {
             jsonObject = new HashMap<>();
-            JsonString key;
+            String key;
             while (!eoo) {
-                key = new JsonString(parser);
+                key = JsonString.key(parser);
                 parser.next(':');
                 jsonObject.put(key,
                         parser.parse());
@@ -46,6 +46,29 @@ public final class JsonObject implements Json<Map<String, Object>> {
         parser.endObject();
     }
 
+    /**
+     * Reads Object value from a reader without creating the elements.
+     * Reader will stop at the next clean char after object.
+     * @param parser
+     * @return map
+     * @throws IOException
+     */
+    public static Map<String, Object> value(final Parser parser)
+            throws IOException {
+        parser.startObject();
+        final Map<String, Object> objectMap = new HashMap<>();
+        boolean eoo = endOfObject(parser);
+        while (!eoo) {
+            final String key = JsonString.key(parser);
+            parser.next(':');
+            objectMap.put(key, parser.parseValue());
+            eoo = endOfObject(parser);
+        }
+        parser.setCursorToNextClean();
+        parser.endObject();
+        return objectMap;
+    }
+
     /**
      * Determines the Object End. By moving till " or }.
      * @param parser
@@ -79,8 +102,8 @@ public final class JsonObject implements Json<Map<String, Object>> {
     public Map<String, Object> read() {
         Map<String, Object> objectMap = HashMap.newHashMap(jsonObject.size());
 
-        for (Map.Entry<JsonString, Json<?>> entry : jsonObject.entrySet()) {
-            objectMap.put(entry.getKey().read(), entry.getValue().read());
+        for (Map.Entry<String, Json<?>> entry : jsonObject.entrySet()) {
+            objectMap.put(entry.getKey(), entry.getValue().read());
         }
 
         return objectMap;
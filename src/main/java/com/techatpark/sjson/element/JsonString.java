@@ -24,7 +24,7 @@ public final class JsonString implements Json<String> {
     /**
      * Json String.
      */
-    private final StringBuilder jsonString;
+    private final String jsonString;
 
     /**
      * Reads String from Reader. Reader will stop at the " symbol
@@ -34,25 +34,45 @@ public final class JsonString implements Json<String> {
     public JsonString(
                       final Parser
                               parser) throws IOException {
-        jsonString = getString(parser);
+        jsonString = value(parser);
     }
 
-    private static StringBuilder getString(
+    /**
+     * Reads String value from Reader without creating the element.
+     * Reader will stop at the " symbol
+     * @param parser
+     * @return string
+     * @throws IOException
+     */
+    public static String value(final Parser parser) throws IOException {
+        final String simpleString = parser.nextSimpleString();
+        return simpleString == null
+                ? getString(parser) : simpleString;
+    }
+
+    /**
+     * Reads an object field name. Reader will stop at the " symbol.
+     * Names without escapes are canonicalized by the key cache of
+     * the parser.
+     * @param parser
+     * @return field name
+     * @throws IOException
+     */
+    public static String key(final Parser parser) throws IOException {
+        final String simpleKey = parser.nextSimpleKey();
+        return simpleKey == null
+                ? getString(parser) : simpleKey;
+    }
+
+    private static String getString(
                         final Parser parser)
             throws IOException {
-        final StringBuilder sb = new StringBuilder();
-        char character;
-
-        while (
-            (character = parser.getCharacter()) != '\\'
-                && character != '"'
-        ) {
-            sb.append(character);
-        }
+        final StringBuilder sb = parser.stringBuilder();
+        char character = parser.nextStringPart(sb);
 
         // Normal String
         if (character == '"') {
-            return sb;
+            return sb.toString();
         }
 
         // String with escape characters ?!
@@ -62,9 +82,7 @@ public final class JsonString implements Json<String> {
                     character = parser.getCharacter();
                     switch (character) {
                         case '"', '\'', '\\', '/' -> sb.append(character);
-                        case 'u' -> sb.append((char) Integer
-                            .parseInt(new String(parser.next(LENGTH)),
-                                    RADIX));
+                        case 'u' -> sb.append(unicode(parser));
                         case 'b' -> sb.append('\b');
                         case 't' -> sb.append('\t');
                         case 'n' -> sb.append('\n');
@@ -78,7 +96,7 @@ public final class JsonString implements Json<String> {
                     throw new IllegalArgumentException(ILLEGAL_JSON_VALUE);
                 default:
                     if (character == '"') {
-                        return sb;
+                        return sb.toString();
                     }
                     sb.append(character);
             }
@@ -87,8 +105,27 @@ public final class JsonString implements Json<String> {
     }
 
 
+    /**
+     * Reads the hex digits of an unicode escape.
+     * @param parser
+     * @return char value
+     * @throws IOException
+     */
+    private static char unicode(final Parser parser) throws IOException {
+        final char[] hex = parser.next(LENGTH);
+        int value = 0;
+        for (int i = 0; i < LENGTH; i++) {
+            final int digit = Character.digit(hex[i], RADIX);
+            if (digit == -1) {
+                throw new IllegalArgumentException(ILLEGAL_JSON_VALUE);
+            }
+            value = value * RADIX + digit;
+        }
+        return (char) value;
+    }
+
     @Override
     public String read() {
-        return jsonString.toString();
+        return jsonString;
     }
 }
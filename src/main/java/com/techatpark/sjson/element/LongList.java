@@ -0,0 +1,45 @@
+package com.techatpark.sjson.element;
+
+import java.util.AbstractList;
+import java.util.RandomAccess;
+
+/**
+ * Unmodifiable List of integers backed by a long array.
+ * Values are boxed on access into the same type as {@link JsonNumber},
+ * so it is equal to the List read by {@link
+ * com.techatpark.sjson.Json#parse(java.io.Reader)}.
+ */
+public final class LongList extends AbstractList<Number>
+        implements RandomAccess {
+
+    /**
+     * Values of the List.
+     */
+    private final long[] values;
+
+    /**
+     * Creates List for the values.
+     * @param theValues
+     */
+    LongList(final long[] theValues) {
+        this.values = theValues;
+    }
+
+    /**
+     * Gets the values. The array is not copied and must not be modified.
+     * @return values
+     */
+    public long[] longArray() {
+        return values;
+    }
+
+    @Override
+    public Number get(final int index) {
+        return JsonNumber.narrow(values[index]);
+    }
+
+    @Override
+    public int size() {
+        return values.length;
+    }
+}
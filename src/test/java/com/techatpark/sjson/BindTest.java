@@ -0,0 +1,345 @@
+package com.techatpark.sjson;
+
+import com.techatpark.sjson.util.TestDataProvider;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.FileReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Tests binding of JSON into records by Json.parse(Reader, Class).
+ */
+class BindTest {
+
+    /**
+     * Role of a person.
+     */
+    enum Role { ADMIN, USER }
+
+    /**
+     * Address.
+     * @param city
+     * @param zip
+     */
+    record Address(String city, int zip) { }
+
+    /**
+     * Person.
+     * @param name
+     * @param age
+     * @param active
+     * @param tags
+     * @param scores
+     * @param address
+     * @param role
+     * @param ids
+     * @param nicknames
+     */
+    record Person(String name, int age, boolean active, List<String> tags,
+                  Map<String, Double> scores, Address address, Role role,
+                  long[] ids, Set<String> nicknames) { }
+
+    /**
+     * Shape.
+     */
+    sealed interface Shape permits Circle, Polygon { }
+
+    /**
+     * Polygon.
+     */
+    sealed interface Polygon extends Shape permits Square { }
+
+    /**
+     * Circle.
+     * @param radius
+     */
+    record Circle(double radius) implements Shape { }
+
+    /**
+     * Square.
+     * @param side
+     */
+    record Square(float side) implements Polygon { }
+
+    /**
+     * Drawing.
+     * @param shapes
+     * @param main
+     */
+    record Drawing(List<? extends Shape> shapes, Shape main) { }
+
+    /**
+     * Tree that refers to itself.
+     * @param name
+     * @param children
+     */
+    record Tree(String name, List<Tree> children) { }
+
+    /**
+     * Numbers of all types.
+     * @param b
+     * @param s
+     * @param l
+     * @param f
+     * @param bigInteger
+     * @param bigDecimal
+     * @param number
+     * @param boxed
+     * @param value
+     */
+    record Numbers(byte b, short s, long l, float f, BigInteger bigInteger,
+                   BigDecimal bigDecimal, Number number, Integer boxed,
+                   Object value) { }
+
+    /**
+     * Record that validates its components.
+     * @param positive
+     */
+    record Positive(int positive) {
+        Positive {
+            if (positive <= 0) {
+                throw new IllegalStateException("Not positive");
+            }
+        }
+    }
+
+    /**
+     * Generic record.
+     * @param value
+     * @param <T>
+     */
+    record Box<T>(T value) { }
+
+    /**
+     * Tests fields are bound to components, unknown fields are skipped
+     * and missing fields are left empty.
+     * @throws IOException
+     */
+    @Test
+    void testRecord() throws IOException {
+        final Person person = Json.parse(new StringReader("""
+                {"name": "Ann", "age": 42, "active": true,
+                 "unknown": {"deep": [1, "x", {"y": null}]},
+                 "tags": ["a", "b"], "scores": {"math": 9.5, "art": 7},
+                 "address": {"city": "Chennai", "zip": 600001},
+                 "role": "ADMIN", "ids": [1, 2, 3],
+                 "nicknames": ["x", "x", "y"], "extra": 1}
+                """), Person.class);
+        Assertions.assertEquals("Ann", person.name());
+        Assertions.assertEquals(42, person.age());
+        Assertions.assertTrue(person.active());
+        Assertions.assertEquals(List.of("a", "b"), person.tags());
+        Assertions.assertEquals(Map.of("math", 9.5, "art", 7.0),
+                person.scores());
+        Assertions.assertEquals(new Address("Chennai", 600001),
+                person.address());
+        Assertions.assertEquals(Role.ADMIN, person.role());
+        Assertions.assertArrayEquals(new long[]{1, 2, 3}, person.ids());
+        Assertions.assertEquals(Set.of("x", "y"), person.nicknames());
+
+        final Person empty = Json.parse(new StringReader(
+                "{\"age\": null, \"address\": null, \"role\": null}"),
+                Person.class);
+        Assertions.assertEquals(0, empty.age());
+        Assertions.assertFalse(empty.active());
+        Assertions.assertNull(empty.name());
+        Assertions.assertNull(empty.address());
+        Assertions.assertNull(empty.tags());
+        Assertions.assertNull(Json.parse(new StringReader("null"),
+                Person.class));
+    }
+
+    /**
+     * Tests sealed types are bound to the record named by type field.
+     * @throws IOException
+     */
+    @Test
+    void testSealed() throws IOException {
+        final Drawing drawing = Json.parse(new StringReader("""
+                {"shapes": [{"@type": "Circle", "radius": 1.5},
+                            {"@type": "Square", "side": 2},
+                            {"@type": "Circle"}, null],
+                 "main": {"@type": "Square", "side": 3, "color": "red"}}
+                """), Drawing.class);
+        Assertions.assertEquals(Arrays.asList(new Circle(1.5),
+                new Square(2), new Circle(0), null), drawing.shapes());
+        Assertions.assertEquals(new Square(3), drawing.main());
+        Assertions.assertEquals(new Circle(2), Json.parse(new StringReader(
+                "{\"@type\": \"Circle\", \"radius\": 2}"), Shape.class));
+    }
+
+    /**
+     * Tests records that refer to themselves.
+     * @throws IOException
+     */
+    @Test
+    void testRecursive() throws IOException {
+        Assertions.assertEquals(new Tree("root", List.of(
+                new Tree("a", List.of()), new Tree("b", null))),
+                Json.parse(new StringReader("""
+                        {"name": "root", "children": [
+                            {"name": "a", "children": []}, {"name": "b"}]}
+                        """), Tree.class));
+    }
+
+    /**
+     * Tests numbers are converted to the component types.
+     * @throws IOException
+     */
+    @Test
+    void testNumbers() throws IOException {
+        final Numbers numbers = Json.parse(new StringReader("""
+                {"b": 1, "s": 300, "l": 5000000000, "f": 1.5,
+                 "bigInteger": 12345678901234567890123,
+                 "bigDecimal": 0.1, "number": 7, "boxed": 9,
+                 "value": {"a": [1]}}
+                """), Numbers.class);
+        Assertions.assertEquals(new Numbers((byte) 1, (short) 300,
+                5000000000L, 1.5f,
+                new BigInteger("12345678901234567890123"),
+                new BigDecimal("0.1"), (byte) 7, 9,
+                Map.of("a", List.of((byte) 1))), numbers);
+        Assertions.assertEquals(BigInteger.TEN, Json.parse(
+                new StringReader("10"), BigInteger.class));
+        Assertions.assertEquals(0, new BigDecimal("1E+400").compareTo(
+                Json.parse(new StringReader("1E400"), BigDecimal.class)));
+        Assertions.assertEquals(BigInteger.TWO, Json.parse(
+                new StringReader("2.0"), BigInteger.class));
+        Assertions.assertEquals(3, Json.parse(new StringReader("3"),
+                int.class));
+        Assertions.assertEquals(List.of("x"), Json.parse(
+                new StringReader("[\"x\"]"), List.class));
+        Assertions.assertEquals(Set.of("x"), Json.parse(
+                new StringReader("[\"x\"]"), Set.class));
+        Assertions.assertEquals(Map.of("x", true), Json.parse(
+                new StringReader("{\"x\": true}"), Map.class));
+        Assertions.assertEquals(new Box<>("v"), Json.parse(
+                new StringReader("{\"value\": \"v\"}"), Box.class));
+        Assertions.assertArrayEquals(new String[]{"a", null}, Json.parse(
+                new StringReader("[\"a\", null]"), String[].class));
+    }
+
+    /**
+     * Tests numbers which do not fit the component types are rejected.
+     * @param jsonText
+     */
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "{\"b\": 300}", "{\"b\": -129}", "{\"s\": 40000}",
+            "{\"l\": 9223372036854775808}", "{\"l\": 1.9}",
+            "{\"b\": 1.5}", "{\"s\": -0.5}", "{\"l\": 1E400}",
+            "{\"f\": 1e300}", "{\"bigInteger\": 2.5}",
+            "{\"boxed\": 2147483648}",
+            "{\"boxed\": 1.9}"})
+    void testNumberOverflow(final String jsonText) {
+        assertThrows(IllegalArgumentException.class, () -> Json.parse(
+                new StringReader(jsonText), Numbers.class));
+    }
+
+    /**
+     * Tests integral decimals and values at the limits are bound.
+     * @throws IOException
+     */
+    @Test
+    void testNumberLimits() throws IOException {
+        Assertions.assertEquals(new Address("x", Integer.MIN_VALUE),
+                Json.parse(new StringReader(
+                        "{\"city\": \"x\", \"zip\": -2147483648}"),
+                        Address.class));
+        Assertions.assertEquals(3, Json.parse(new StringReader("3.0"),
+                int.class));
+        Assertions.assertEquals(Long.MAX_VALUE, Json.parse(
+                new StringReader("9223372036854775807"), long.class));
+        Assertions.assertEquals((byte) -128, Json.parse(
+                new StringReader("-1.28e2"), byte.class));
+        Assertions.assertEquals(1e300, Json.parse(
+                new StringReader("1e300"), double.class));
+        assertThrows(IllegalArgumentException.class, () -> Json.parse(
+                new StringReader("1e400"), double.class));
+    }
+
+    /**
+     * Tests binding to Object is same as Json.parse.
+     * @param path
+     * @throws IOException
+     */
+    @ParameterizedTest
+    @MethodSource("jsonFilesProvider")
+    void testObject(final Path path) throws IOException {
+        Assertions.assertEquals(Json.parse(new FileReader(path.toFile())),
+                Json.parse(new FileReader(path.toFile()), Object.class));
+    }
+
+    /**
+     * Tests values of other kinds and illegal content.
+     * @param jsonText
+     */
+    @ParameterizedTest
+    @ValueSource(strings = {"{\"name\": 1}", "{\"age\": \"1\"}",
+            "{\"active\": 1}", "{\"role\": \"OWNER\"}", "{\"role\": 1}",
+            "{\"tags\": {}}", "{\"scores\": []}", "{\"address\": []}",
+            "{\"ids\": 1}", "[]", "{\"name\" \"x\"}", "{1: 2}",
+            "{\"age\": 1 \"x\": 2}", "{\"tags\": [\"a\" \"b\"]}",
+            "{\"tags\": [\"a\",]}", "{\"scores\": {\"a\": 1,}}",
+            "{\"scores\": {\"a\": 1 \"b\": 2}}", "{\"age\": 1,}",
+            "{\"age\": 1"})
+    void testIllegal(final String jsonText) {
+        assertThrows(IllegalArgumentException.class,
+                () -> Json.parse(new StringReader(jsonText), Person.class));
+    }
+
+    /**
+     * Tests illegal sealed values.
+     * @param jsonText
+     */
+    @ParameterizedTest
+    @ValueSource(strings = {"{\"radius\": 1, \"@type\": \"Circle\"}",
+            "{\"@type\": \"Triangle\"}", "{\"@type\": \"Circle\" 1}",
+            "[]", "{}"})
+    void testIllegalSealed(final String jsonText) {
+        assertThrows(IllegalArgumentException.class,
+                () -> Json.parse(new StringReader(jsonText), Shape.class));
+    }
+
+    /**
+     * Tests exceptions of the record constructor are thrown.
+     */
+    @Test
+    void testValidation() {
+        assertThrows(IllegalStateException.class,
+                () -> Json.parse(new StringReader("{\"positive\": 0}"),
+                        Positive.class));
+    }
+
+    /**
+     * Tests types which can not be bound.
+     */
+    @Test
+    void testUnsupported() {
+        assertThrows(UnsupportedOperationException.class,
+                () -> Json.parse(new StringReader("{}"), Thread.class));
+        assertThrows(UnsupportedOperationException.class,
+                () -> Json.parse(new StringReader("1"), Character.class));
+        assertThrows(UnsupportedOperationException.class,
+                () -> Json.parse(new StringReader("1"),
+                        java.util.concurrent.atomic.AtomicLong.class));
+    }
+
+    private static Set<Path> jsonFilesProvider() throws IOException {
+        return TestDataProvider.getJSONFiles();
+    }
+}
@@ -0,0 +1,175 @@
+package com.techatpark.sjson;
+
+import com.techatpark.sjson.element.DoubleList;
+import com.techatpark.sjson.element.LongList;
+import com.techatpark.sjson.util.TestDataProvider;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.FileReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Tests primitive backed lists returned by Json.parseCompact.
+ */
+class CompactTest {
+
+    /**
+     * Tests compact values are equal to the values read by parse.
+     * @param path
+     * @throws IOException
+     */
+    @ParameterizedTest
+    @MethodSource("jsonFilesProvider")
+    void testValid(final Path path) throws IOException {
+        final Object expected = Json.parse(new FileReader(path.toFile()));
+        final Object compact = Json.parseCompact(
+                new FileReader(path.toFile()));
+        Assertions.assertEquals(expected, compact,
+                "Compact failed for " + path);
+        Assertions.assertEquals(compact, expected,
+                "Compact failed for " + path);
+        Assertions.assertEquals(expected.hashCode(), compact.hashCode());
+    }
+
+    /**
+     * Tests arrays of integers are backed by long array.
+     * @throws IOException
+     */
+    @Test
+    void testIntegers() throws IOException {
+        final StringBuilder jsonText = new StringBuilder("[ -1");
+        final long[] expected = new long[100];
+        expected[0] = -1;
+        for (int i = 1; i < expected.length; i++) {
+            expected[i] = (long) i * Integer.MAX_VALUE;
+            jsonText.append(", ").append(expected[i]);
+        }
+        final LongList list = (LongList) Json.parseCompact(
+                new StringReader(jsonText.append(" ]").toString()));
+
+        Assertions.assertArrayEquals(expected, list.longArray());
+        Assertions.assertEquals((byte) -1, list.get(0));
+        Assertions.assertEquals(Integer.MAX_VALUE, list.get(1));
+        Assertions.assertEquals(2L * Integer.MAX_VALUE, list.get(2));
+        Assertions.assertEquals(Json.parse(
+                new StringReader(jsonText.toString())), list);
+        assertThrows(UnsupportedOperationException.class,
+                () -> list.add(1));
+    }
+
+    /**
+     * Tests arrays of decimals are backed by double array.
+     * @throws IOException
+     */
+    @Test
+    void testDecimals() throws IOException {
+        final StringBuilder jsonText = new StringBuilder("[ 1.5e300");
+        final double[] expected = new double[100];
+        expected[0] = 1.5e300;
+        for (int i = 1; i < expected.length; i++) {
+            expected[i] = i + 0.25;
+            jsonText.append(",").append(expected[i]);
+        }
+        final DoubleList list = (DoubleList) Json.parseCompact(
+                new StringReader(jsonText.append("]").toString()));
+
+        Assertions.assertArrayEquals(expected, list.doubleArray());
+        Assertions.assertEquals(1.5e300, list.get(0));
+        Assertions.assertEquals(1.25f, list.get(1));
+        Assertions.assertEquals(Json.parse(
+                new StringReader(jsonText.toString())), list);
+    }
+
+    /**
+     * Tests decimals which are not exact as float keep the precision
+     * of double.
+     * @throws IOException
+     */
+    @Test
+    void testDoublePrecision() throws IOException {
+        final String jsonText = "[0.1, 0.2, 3.14159265358979, -2.5e-8]";
+        final DoubleList list = (DoubleList) Json.parseCompact(
+                new StringReader(jsonText));
+
+        Assertions.assertArrayEquals(
+                new double[]{0.1, 0.2, 3.14159265358979, -2.5e-8},
+                list.doubleArray());
+        Assertions.assertEquals(Json.parse(new StringReader(jsonText)),
+                list);
+
+        // Values before a non decimal are boxed as Json.parse does
+        final String mixed = "[0.1, 3.14159265358979, \"a\"]";
+        Assertions.assertEquals(Json.parse(new StringReader(mixed)),
+                Json.parseCompact(new StringReader(mixed)));
+        final String integers = "[1, 2, 3.14159265358979]";
+        Assertions.assertEquals(Json.parse(new StringReader(integers)),
+                Json.parseCompact(new StringReader(integers)));
+    }
+
+    /**
+     * Tests nested arrays are compact.
+     * @throws IOException
+     */
+    @Test
+    void testNested() throws IOException {
+        final Map<?, ?> map = (Map<?, ?>) Json.parseCompact(new StringReader(
+                "{\"a\": [[1, 2], [0.5]], \"b\": []}"));
+
+        final List<?> arrays = (List<?>) map.get("a");
+        Assertions.assertInstanceOf(ArrayList.class, arrays);
+        Assertions.assertArrayEquals(new long[]{1, 2},
+                ((LongList) arrays.get(0)).longArray());
+        Assertions.assertArrayEquals(new double[]{0.5},
+                ((DoubleList) arrays.get(1)).doubleArray());
+        Assertions.assertEquals(List.of(), map.get("b"));
+    }
+
+    /**
+     * Tests arrays having other values are read as List.
+     * @param jsonText
+     * @throws IOException
+     */
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "[1, 2, 3, 1.5]",
+            "[1.5, 2.5, 3]",
+            "[1, \"a\"]",
+            "[0.5, null]",
+            "[1, 12345678901234567890]",
+            "[1e5, 1]",
+            "[\"a\", 1]"
+    })
+    void testMixed(final String jsonText) throws IOException {
+        final Object compact = Json.parseCompact(new StringReader(jsonText));
+        Assertions.assertInstanceOf(ArrayList.class, compact);
+        Assertions.assertEquals(Json.parse(new StringReader(jsonText)),
+                compact);
+    }
+
+    /**
+     * Tests Illegal JSON Texts.
+     */
+    @Test
+    void testIllegal() {
+        assertThrows(IllegalArgumentException.class,
+                () -> Json.parseCompact(new StringReader("]")));
+        assertThrows(IllegalArgumentException.class,
+                () -> Json.parseCompact(new StringReader("[1, 2")));
+    }
+
+    private static Set<Path> jsonFilesProvider() throws IOException {
+        return TestDataProvider.getJSONFiles();
+    }
+}
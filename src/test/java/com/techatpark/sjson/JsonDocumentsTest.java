@@ -0,0 +1,134 @@
+package com.techatpark.sjson;
+
+import com.techatpark.sjson.util.TestDataProvider;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.FileReader;
+import java.io.IOException;
+import java.io.PipedReader;
+import java.io.PipedWriter;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Tests consecutive documents read by JsonDocuments.
+ */
+class JsonDocumentsTest {
+
+    /**
+     * Tests concatenated samples are read back in order.
+     * @throws IOException
+     */
+    @Test
+    void testSamples() throws IOException {
+        final List<Object> expected = new ArrayList<>();
+        final StringBuilder content = new StringBuilder();
+        for (final Path path : TestDataProvider.getJSONFiles()) {
+            expected.add(Json.parse(new FileReader(path.toFile())));
+            try (Reader reader = new FileReader(path.toFile())) {
+                reader.transferTo(new Writer() {
+                    @Override
+                    public void write(final char[] cbuf, final int off,
+                                      final int len) {
+                        content.append(cbuf, off, len);
+                    }
+
+                    @Override
+                    public void flush() {
+                    }
+
+                    @Override
+                    public void close() {
+                    }
+                });
+            }
+        }
+        final String jsonText = content.toString();
+
+        Assertions.assertEquals(expected,
+                readAll(new JsonDocuments(new StringReader(jsonText))));
+        Assertions.assertEquals(expected,
+                readAll(new JsonDocuments(new ByteArrayInputStream(
+                        jsonText.getBytes(StandardCharsets.UTF_8)))));
+    }
+
+    /**
+     * Tests back to back values without separators.
+     * @throws IOException
+     */
+    @Test
+    void testConcatenated() throws IOException {
+        final JsonDocuments documents = new JsonDocuments(
+                new StringReader("{\"a\":1}[2]\"s\"true null 3 {}  -4"));
+        Assertions.assertEquals(Arrays.asList(Map.of("a", (byte) 1),
+                List.of((byte) 2), "s", true, null, (byte) 3, Map.of(),
+                (byte) -4), readAll(documents));
+        Assertions.assertFalse(documents.hasNext());
+        assertThrows(NoSuchElementException.class, documents::next);
+    }
+
+    /**
+     * Tests a value is returned without waiting for the next one,
+     * and the reader is not closed.
+     * @throws Exception
+     */
+    @Test
+    void testStream() throws Exception {
+        final AtomicBoolean closed = new AtomicBoolean();
+        final PipedWriter writer = new PipedWriter();
+        final PipedReader reader = new PipedReader(writer) {
+            @Override
+            public void close() throws IOException {
+                closed.set(true);
+                super.close();
+            }
+        };
+        final JsonDocuments documents = new JsonDocuments(reader);
+
+        writer.write("{\"id\": 1}\n");
+        writer.flush();
+        Assertions.assertEquals(Map.of("id", (byte) 1), documents.next());
+        writer.write("[\"two\"]");
+        writer.flush();
+        Assertions.assertEquals(List.of("two"), documents.next());
+        writer.write("\"three\"");
+        writer.close();
+        Assertions.assertEquals("three", documents.next());
+        Assertions.assertFalse(documents.hasNext());
+        Assertions.assertFalse(closed.get());
+    }
+
+    /**
+     * Tests Illegal content.
+     */
+    @Test
+    void testIllegal() throws IOException {
+        final JsonDocuments documents = new JsonDocuments(
+                new StringReader("{} ] {"));
+        Assertions.assertEquals(Map.of(), documents.next());
+        Assertions.assertTrue(documents.hasNext());
+        assertThrows(IllegalArgumentException.class, documents::next);
+    }
+
+    private static List<Object> readAll(final JsonDocuments documents)
+            throws IOException {
+        final List<Object> values = new ArrayList<>();
+        while (documents.hasNext()) {
+            values.add(documents.next());
+        }
+        return values;
+    }
+}
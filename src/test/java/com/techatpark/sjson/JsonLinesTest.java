@@ -0,0 +1,185 @@
+package com.techatpark.sjson;
+
+import com.techatpark.sjson.util.TestDataProvider;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.ByteArrayInputStream;
+import java.io.FileReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Tests streams of JSON Lines read by Json.lines.
+ */
+class JsonLinesTest {
+
+    /**
+     * Tests samples written one per line are read back in order.
+     * @param tempDir
+     * @throws IOException
+     */
+    @Test
+    void testSamples(@TempDir final Path tempDir) throws IOException {
+        final List<Object> values = new ArrayList<>();
+        for (final Path path : TestDataProvider.getJSONFiles()) {
+            values.add(Json.parse(new FileReader(path.toFile())));
+        }
+        final String jsonLines = toJsonLines(values);
+        // Written numbers may be read back as other types
+        final List<Object> expected = new ArrayList<>();
+        for (final String line : jsonLines.split("\n")) {
+            expected.add(Json.parse(new StringReader(line)));
+        }
+        final Path path = tempDir.resolve("samples.jsonl");
+        Files.writeString(path, jsonLines);
+
+        assertLines(expected, jsonLines, path);
+    }
+
+    /**
+     * Tests a large content which is split for parallel streams.
+     * @param tempDir
+     * @throws IOException
+     */
+    @Test
+    void testLarge(@TempDir final Path tempDir) throws IOException {
+        final List<Object> expected = new ArrayList<>();
+        for (int i = 0; i < 20_000; i++) {
+            expected.add(switch (i % 4) {
+                case 0 -> Map.of("id", i, "name", "na\\me " + i,
+                        "tags", List.of("é", true));
+                case 1 -> List.of(i, "x");
+                case 2 -> "line " + i;
+                default -> i;
+            });
+        }
+        final String jsonLines = toJsonLines(expected);
+        final Path path = tempDir.resolve("large.jsonl");
+        Files.writeString(path, jsonLines);
+
+        assertLines(Json.lines(new StringReader(jsonLines)).toList(),
+                jsonLines, path);
+        Assertions.assertEquals(expected.size(),
+                Json.lines(path).parallel().count());
+    }
+
+    /**
+     * Tests values of every type, with blank lines and no new line
+     * at the end.
+     * @param jsonLines
+     * @throws IOException
+     */
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "1\n\"a\"\ntrue\nfalse\nnull\n[1]\n{\"a\":1}\n-1.5",
+            "\n\n1 \n  2\r\n[]{}\n\n",
+            "{}",
+            "-1"
+    })
+    void testValues(final String jsonLines) throws IOException {
+        final List<Object> expected = new ArrayList<>();
+        for (final String line : jsonLines.split("\n")) {
+            if (!line.isBlank()) {
+                if (line.equals("[]{}")) {
+                    expected.add(List.of());
+                    expected.add(Map.of());
+                } else {
+                    expected.add(Json.parse(new StringReader(line)));
+                }
+            }
+        }
+        Assertions.assertEquals(expected,
+                Json.lines(new StringReader(jsonLines)).toList());
+        Assertions.assertEquals(expected,
+                Json.lines(new ByteArrayInputStream(jsonLines
+                        .getBytes(StandardCharsets.UTF_8))).toList());
+    }
+
+    /**
+     * Tests empty content.
+     */
+    @Test
+    void testEmpty() {
+        Assertions.assertEquals(0, Json.lines(new StringReader("")).count());
+        Assertions.assertEquals(0,
+                Json.lines(new StringReader("\n \n")).parallel().count());
+    }
+
+    /**
+     * Tests closing the stream closes the content.
+     */
+    @Test
+    void testClose() {
+        final AtomicBoolean closed = new AtomicBoolean();
+        try (Stream<Object> lines = Json.lines(new StringReader("1") {
+            @Override
+            public void close() {
+                closed.set(true);
+            }
+        })) {
+            Assertions.assertEquals(List.of((byte) 1), lines.toList());
+        }
+        Assertions.assertTrue(closed.get());
+
+        final AtomicBoolean streamClosed = new AtomicBoolean();
+        Json.lines(new ByteArrayInputStream(new byte[0]) {
+            @Override
+            public void close() {
+                streamClosed.set(true);
+            }
+        }).close();
+        Assertions.assertTrue(streamClosed.get());
+    }
+
+    /**
+     * Tests Illegal JSON Lines.
+     * @param jsonLines
+     */
+    @ParameterizedTest
+    @ValueSource(strings = {"1\n]", "{\"a\"", "1\n{", "tru\n2"})
+    void testIllegal(final String jsonLines) {
+        assertThrows(IllegalArgumentException.class,
+                () -> Json.lines(new StringReader(jsonLines)).toList());
+        assertThrows(IllegalArgumentException.class,
+                () -> Json.lines(new StringReader(jsonLines))
+                        .parallel().toList());
+    }
+
+    private static void assertLines(final List<Object> expected,
+                                    final String jsonLines,
+                                    final Path path) throws IOException {
+        final byte[] bytes = jsonLines.getBytes(StandardCharsets.UTF_8);
+        Assertions.assertEquals(expected, Json.lines(path).toList());
+        Assertions.assertEquals(expected,
+                Json.lines(path).parallel().toList());
+        Assertions.assertEquals(expected,
+                Json.lines(new StringReader(jsonLines)).parallel().toList());
+        Assertions.assertEquals(expected,
+                Json.lines(new ByteArrayInputStream(bytes))
+                        .parallel().toList());
+        Assertions.assertEquals(expected,
+                Json.lines(new ByteArrayInputStream(bytes)).toList());
+    }
+
+    private static String toJsonLines(final List<Object> values) {
+        final StringBuilder sb = new StringBuilder();
+        for (final Object value : values) {
+            sb.append(Json.stringify(value)).append('\n');
+        }
+        return sb.toString();
+    }
+}
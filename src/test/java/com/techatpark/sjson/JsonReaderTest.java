@@ -0,0 +1,216 @@
+package com.techatpark.sjson;
+
+import com.techatpark.sjson.JsonReader.Token;
+import com.techatpark.sjson.util.TestDataProvider;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.ByteArrayInputStream;
+import java.io.FileReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Tests for the pull reader.
+ */
+class JsonReaderTest {
+
+    /**
+     * Tests values built from tokens are same as Json.parse.
+     * @param path
+     * @throws IOException
+     */
+    @ParameterizedTest
+    @MethodSource("jsonFilesProvider")
+    void testValid(final Path path) throws IOException {
+        try (JsonReader reader = new JsonReader(
+                new FileReader(path.toFile()))) {
+            Assertions.assertEquals(Json.parse(new FileReader(path.toFile())),
+                    read(reader, reader.nextToken()),
+                    "Reader failed for " + path);
+            assertEquals(Token.END_DOCUMENT, reader.nextToken());
+        }
+    }
+
+    /**
+     * Tests consecutive top level values are read.
+     * @throws IOException
+     */
+    @Test
+    void testMultipleValues() throws IOException {
+        final String ndjson = """
+                {"id": 1, "tags": ["a", "b"]}
+                {"id": 2, "tags": []}
+                42
+                "text"
+                """;
+        try (JsonReader reader = new JsonReader(new ByteArrayInputStream(
+                ndjson.getBytes(StandardCharsets.UTF_8)))) {
+            assertEquals(Map.of("id", (byte) 1, "tags", List.of("a", "b")),
+                    read(reader, reader.nextToken()));
+            assertEquals(Map.of("id", (byte) 2, "tags", List.of()),
+                    read(reader, reader.nextToken()));
+            assertEquals(Token.NUMBER, reader.nextToken());
+            assertEquals(42L, reader.getLong());
+            assertEquals(42.0, reader.getDouble());
+            assertEquals(Token.STRING, reader.nextToken());
+            assertEquals("text", reader.getString());
+            assertEquals(Token.END_DOCUMENT, reader.nextToken());
+            assertEquals(Token.END_DOCUMENT, reader.getToken());
+        }
+    }
+
+    /**
+     * Tests skipping of values.
+     * @throws IOException
+     */
+    @Test
+    void testSkipValue() throws IOException {
+        final String json = """
+                {"skip": {"a": [1, {"b": null}]}, "next": [true, false, 7],
+                 "last": "value"}
+                """;
+        try (JsonReader reader = new JsonReader(new StringReader(json))) {
+            assertEquals(Token.START_OBJECT, reader.nextToken());
+            reader.skipValue();
+            assertEquals(Token.FIELD_NAME, reader.nextToken());
+            assertEquals("next", reader.getString());
+            assertEquals(Token.START_ARRAY, reader.nextToken());
+            reader.skipValue();
+            assertEquals(Token.FALSE, reader.nextToken());
+            reader.skipValue();
+            assertThrows(IllegalStateException.class, reader::skipValue);
+            assertEquals(Token.FIELD_NAME, reader.nextToken());
+            reader.skipValue();
+            assertEquals(Token.END_OBJECT, reader.nextToken());
+            assertThrows(IllegalStateException.class, reader::skipValue);
+        }
+    }
+
+    /**
+     * Tests skipped strings and containers are not read.
+     * @throws IOException
+     */
+    @Test
+    void testSkipString() throws IOException {
+        try (JsonReader reader = new JsonReader(new ByteArrayInputStream(
+                "{\"a\": \"x\\\"}\", \"b\": [\"]\"], \"c\": 1} 2"
+                        .getBytes(StandardCharsets.UTF_8)))) {
+            assertEquals(Token.START_OBJECT, reader.nextToken());
+            assertEquals(Token.FIELD_NAME, reader.nextToken());
+            reader.skipValue();
+            assertEquals(Token.STRING, reader.getToken());
+            Assertions.assertNull(reader.getString());
+            reader.skipValue();
+            assertEquals(Token.END_ARRAY, reader.getToken());
+            assertEquals(Token.FIELD_NAME, reader.nextToken());
+            assertEquals("c", reader.getString());
+            assertEquals(Token.NUMBER, reader.nextToken());
+            assertEquals(Token.END_OBJECT, reader.nextToken());
+            reader.skipValue();
+            assertEquals(Token.END_DOCUMENT, reader.nextToken());
+        }
+    }
+
+    /**
+     * Tests getters for the wrong token.
+     * @throws IOException
+     */
+    @Test
+    void testWrongToken() throws IOException {
+        try (JsonReader reader = new JsonReader(new StringReader("[1]"))) {
+            assertEquals(Token.START_ARRAY, reader.nextToken());
+            assertThrows(IllegalStateException.class, reader::getString);
+            assertThrows(IllegalStateException.class, reader::getLong);
+            assertEquals(Token.NUMBER, reader.nextToken());
+            assertThrows(IllegalStateException.class, reader::getString);
+        }
+    }
+
+    /**
+     * Tests Invalid JSON.
+     * @param json
+     */
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "[1 2]",
+            "[1,]",
+            "{\"a\" 1}",
+            "{1: 2}",
+            "{\"a\": 1 \"b\": 2}",
+            "x",
+            "[nul]"
+    })
+    void testInvalid(final String json) {
+        assertThrows(IllegalArgumentException.class, () -> {
+            try (JsonReader reader = new JsonReader(new StringReader(json))) {
+                while (reader.nextToken() != Token.END_DOCUMENT) {
+                    continue;
+                }
+            }
+        });
+    }
+
+    /**
+     * Tests nesting depth is limited.
+     */
+    @Test
+    void testDeeplyNested() {
+        assertThrows(IllegalArgumentException.class, () -> {
+            try (JsonReader reader = new JsonReader(
+                    new StringReader("[".repeat(10_000)))) {
+                while (reader.nextToken() != Token.END_DOCUMENT) {
+                    continue;
+                }
+            }
+        });
+    }
+
+    /**
+     * Builds value from the tokens.
+     */
+    private static Object read(final JsonReader reader, final Token token)
+            throws IOException {
+        return switch (token) {
+            case START_OBJECT -> {
+                Map<String, Object> map = new HashMap<>();
+                while (reader.nextToken() == Token.FIELD_NAME) {
+                    String name = reader.getString();
+                    map.put(name, read(reader, reader.nextToken()));
+                }
+                yield map;
+            }
+            case START_ARRAY -> {
+                List<Object> list = new ArrayList<>();
+                Token next;
+                while ((next = reader.nextToken()) != Token.END_ARRAY) {
+                    list.add(read(reader, next));
+                }
+                yield list;
+            }
+            case STRING -> reader.getString();
+            case NUMBER -> reader.getNumber();
+            case TRUE -> true;
+            case FALSE -> false;
+            case NULL -> null;
+            default -> throw new IllegalStateException("Unexpected " + token);
+        };
+    }
+
+    private static Set<Path> jsonFilesProvider() throws IOException {
+        return TestDataProvider.getJSONFiles();
+    }
+}
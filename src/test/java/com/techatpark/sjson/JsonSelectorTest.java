@@ -0,0 +1,200 @@
+package com.techatpark.sjson;
+
+import com.techatpark.sjson.util.TestDataProvider;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.ByteArrayInputStream;
+import java.io.FileReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Tests selection of values by JSON Pointers.
+ */
+class JsonSelectorTest {
+
+    /**
+     * Pointers selected one at a time from each sample.
+     */
+    private static final int SINGLE_POINTERS = 200;
+
+    /**
+     * Tests examples of RFC 6901 over its test document.
+     * @param pointer
+     * @param expected
+     * @throws IOException
+     */
+    @ParameterizedTest
+    @MethodSource("rfcPointers")
+    void testRfc(final String pointer, final Object expected)
+            throws IOException {
+        final Path path = Path.of("src/test/resources/samples",
+                "jsonpointer-testdoc.json");
+        final Map<String, Object> values = new JsonSelector(pointer)
+                .select(new FileReader(path.toFile()));
+        Assertions.assertEquals(Map.of(pointer, expected), values);
+    }
+
+    /**
+     * Tests every value of the samples is selected, all at once and
+     * one at a time.
+     * @param path
+     * @throws IOException
+     */
+    @ParameterizedTest
+    @MethodSource("jsonFilesProvider")
+    void testSamples(final Path path) throws IOException {
+        final Map<String, Object> expected = new LinkedHashMap<>();
+        pointers("", Json.parse(new FileReader(path.toFile())), expected);
+        final byte[] bytes = Files.readAllBytes(path);
+
+        final JsonSelector selector = new JsonSelector(
+                expected.keySet().toArray(String[]::new));
+        Assertions.assertEquals(expected,
+                selector.select(new FileReader(path.toFile())),
+                "Select failed for " + path);
+        Assertions.assertEquals(expected, selector.select(bytes),
+                "Select failed for " + path);
+
+        expected.entrySet().stream().limit(SINGLE_POINTERS)
+                .forEach(entry -> {
+                    try {
+                        Assertions.assertEquals(
+                                Collections.singletonMap(entry.getKey(),
+                                        entry.getValue()),
+                                new JsonSelector(entry.getKey())
+                                        .select(new ByteArrayInputStream(
+                                                bytes)),
+                                "Select failed for " + entry.getKey());
+                    } catch (IOException e) {
+                        throw new RuntimeException(e);
+                    }
+                });
+    }
+
+    /**
+     * Tests values are selected with their descendants, and pointers
+     * not found are absent.
+     * @throws IOException
+     */
+    @Test
+    void testNested() throws IOException {
+        final String json = """
+                {"order": {"id": 7, "items": [{"sku": "a"}, {"sku": "b"}],
+                 "customer": {"id": 42, "name": "x\\"y"}},
+                 "list": [1, [2, 3], {"k": null}, true, 5]}
+                """;
+        final Map<String, Object> values = new JsonSelector(
+                "/order/customer", "/order/customer/id",
+                "/order/items/1/sku", "/order/items/5", "/order/missing",
+                "/list/1/0", "/list/2/k", "/list/-", "/list/01",
+                "/order/customer/id/x", "/order/customer/id")
+                .select(new StringReader(json));
+        final Map<String, Object> expected = new HashMap<>();
+        expected.put("/order/customer",
+                Map.of("id", (byte) 42, "name", "x\"y"));
+        expected.put("/order/customer/id", (byte) 42);
+        expected.put("/order/items/1/sku", "b");
+        expected.put("/list/1/0", (byte) 2);
+        expected.put("/list/2/k", null);
+        Assertions.assertEquals(expected, values);
+    }
+
+    /**
+     * Tests reading stops once every pointer is resolved.
+     * @throws IOException
+     */
+    @Test
+    void testEarlyStop() throws IOException {
+        final JsonSelector selector = new JsonSelector("/a/1", "/b");
+        Assertions.assertEquals(Map.of("/a/1", (byte) 2, "/b", "c"),
+                selector.select(new StringReader(
+                        "{\"a\": [1, 2, {\"x\": [3]}], \"b\": \"c\" ,!")));
+        Assertions.assertEquals(Map.of(), new JsonSelector()
+                .select(new StringReader("!")));
+    }
+
+    /**
+     * Tests invalid pointers.
+     * @param pointer
+     */
+    @ParameterizedTest
+    @ValueSource(strings = {"a", "/a~", "/a~2b"})
+    void testInvalidPointer(final String pointer) {
+        assertThrows(IllegalArgumentException.class,
+                () -> new JsonSelector(pointer));
+    }
+
+    /**
+     * Tests illegal content, skipped or selected.
+     * @param json
+     */
+    @ParameterizedTest
+    @ValueSource(strings = {"{\"x\": 1 \"a\": 2}", "{\"x\": [1} 2",
+            "{1: 2}", "{\"a\" 1}", "{\"x\": ?}", "[1 2]", "{\"x\": tru}",
+            "{\"x\": \"abc", "[1, ]", "{\"a\": ]}"})
+    void testIllegal(final String json) {
+        assertThrows(IllegalArgumentException.class,
+                () -> new JsonSelector("/a", "/1").select(
+                        json.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    /**
+     * Collects pointers of the value and its descendants.
+     * @param pointer
+     * @param value
+     * @param pointers
+     */
+    private static void pointers(final String pointer, final Object value,
+                                 final Map<String, Object> pointers) {
+        pointers.put(pointer, value);
+        if (value instanceof Map<?, ?> map) {
+            map.forEach((key, child) -> pointers(pointer + "/"
+                    + ((String) key).replace("~", "~0").replace("/", "~1"),
+                    child, pointers));
+        } else if (value instanceof List<?> list) {
+            for (int i = 0; i < list.size(); i++) {
+                pointers(pointer + "/" + i, list.get(i), pointers);
+            }
+        }
+    }
+
+    private static Stream<Arguments> rfcPointers() {
+        return Stream.of(
+                Arguments.of("/foo", List.of("bar", "baz")),
+                Arguments.of("/foo/0", "bar"),
+                Arguments.of("/", (byte) 0),
+                Arguments.of("/a~1b", (byte) 1),
+                Arguments.of("/c%d", (byte) 2),
+                Arguments.of("/e^f", (byte) 3),
+                Arguments.of("/g|h", (byte) 4),
+                Arguments.of("/i\\j", (byte) 5),
+                Arguments.of("/k\"l", (byte) 6),
+                Arguments.of("/ ", (byte) 7),
+                Arguments.of("/m~0n", (byte) 8),
+                Arguments.of("/obj/other~0key/another~1key/0", "val"),
+                Arguments.of("/obj//", "empty key of an object with an "
+                        + "empty key"),
+                Arguments.of("/obj//subKey", "Some other value"));
+    }
+
+    private static Stream<Path> jsonFilesProvider() throws IOException {
+        return TestDataProvider.getJSONFiles().stream();
+    }
+}
@@ -7,16 +7,23 @@ import com.techatpark.sjson.util.TestDataProvider;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 
 import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
 import java.io.FileReader;
 import java.io.IOException;
 import java.io.StringReader;
+import java.io.StringWriter;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Set;
+import java.util.stream.Stream;
 
 class JsonTest {
 
@@ -43,6 +50,76 @@ class JsonTest {
         }
 
 
+    /**
+     * Tests single pass parsing gives the same values as
+     * reading the element tree.
+     * @param path
+     * @throws IOException
+     */
+    @ParameterizedTest
+    @MethodSource("jsonFilesProvider")
+    void testParseValue(Path path) throws IOException {
+        try (FileReader reader = new FileReader(path.toFile())) {
+            Assertions.assertEquals(new ReaderParser(reader).parse().read(),
+                    Json.parse(new FileReader(path.toFile())),
+                    "Single pass parse is wrong for " + path);
+        }
+    }
+
+    /**
+     * Tests writing into Appendable and OutputStream gives the same
+     * text as stringify.
+     * @param path
+     * @throws IOException
+     */
+    @ParameterizedTest
+    @MethodSource("jsonFilesProvider")
+    void testWrite(Path path) throws IOException {
+        Object value = Json.parse(new FileReader(path.toFile()));
+        String expected = Json.stringify(value);
+
+        StringWriter writer = new StringWriter();
+        Json.write(value, writer);
+        Assertions.assertEquals(expected, writer.toString(),
+                "Writer is wrong for " + path);
+
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        Json.write(value, outputStream);
+        Assertions.assertEquals(expected,
+                outputStream.toString(StandardCharsets.UTF_8),
+                "OutputStream is wrong for " + path);
+
+        byte[] bytes = expected.getBytes(StandardCharsets.UTF_8);
+        Assertions.assertArrayEquals(bytes, Json.toBytes(value),
+                "Bytes are wrong for " + path);
+
+        ByteBuffer byteBuffer = ByteBuffer.allocate(bytes.length + 1);
+        byteBuffer.put((byte) ' ');
+        Json.write(value, byteBuffer);
+        Assertions.assertFalse(byteBuffer.hasRemaining());
+        Assertions.assertArrayEquals(bytes,
+                Arrays.copyOfRange(byteBuffer.array(), 1, bytes.length + 1),
+                "ByteBuffer is wrong for " + path);
+    }
+
+    /**
+     * Tests escaping of Json Text.
+     * @param value
+     * @param expected
+     */
+    @ParameterizedTest
+    @MethodSource("escapes")
+    void testEscape(String value, String expected) throws IOException {
+        Assertions.assertEquals(expected, Json.stringify(value));
+
+        StringWriter writer = new StringWriter();
+        Json.write(value, writer);
+        Assertions.assertEquals(expected, writer.toString());
+        Assertions.assertEquals(expected,
+                new String(Json.toBytes(value), StandardCharsets.UTF_8));
+        Assertions.assertEquals(value, Json.parse(new StringReader(expected)));
+    }
+
     @Test
     void testNullJsonText() {
 
@@ -58,6 +135,28 @@ class JsonTest {
     }
 
 
+    /**
+     * Provides values and their escaped Json Text.
+     *
+     * @return Stream of value and expected text
+     */
+    private static Stream<Arguments> escapes() {
+        return Stream.of(
+                Arguments.of("Hari", "\"Hari\""),
+                Arguments.of("", "\"\""),
+                Arguments.of("a/b", "\"a\\/b\""),
+                Arguments.of("\"quoted\" \\ path",
+                        "\"\\\"quoted\\\" \\\\ path\""),
+                Arguments.of("tab\tnew\nline\r\b\f",
+                        "\"tab\\tnew\\nline\\r\\b\\f\""),
+                Arguments.of("\u0000\u001F", "\"\\u0000\\u001F\""),
+                Arguments.of("del \u007F \u0085 \u009F",
+                        "\"del \\u007F \\u0085 \\u009F\""),
+                Arguments.of("sep \u2028 \u20AC end",
+                        "\"sep \\u2028 \\u20AC end\""),
+                Arguments.of("தமிழ் \u00A0", "\"தமிழ் \u00A0\""));
+    }
+
     /**
      * Provides paths to JSON files for parameterized tests.
      *
@@ -0,0 +1,195 @@
+package com.techatpark.sjson;
+
+import com.techatpark.sjson.util.TestDataProvider;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.io.FileReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Tests canonicalization of field names by KeyCache.
+ */
+class KeyCacheTest {
+
+    /**
+     * Records sharing the same field names.
+     */
+    private static final String RECORDS = """
+            [{"id": 1, "name": "a", "very_long_field_name_not_to_be_cached": 1},
+             {"id": 2, "name": "b", "very_long_field_name_not_to_be_cached": 2}]
+            """;
+
+    /**
+     * Tests values read through a cache are equal to the values read
+     * without a cache.
+     * @param path
+     * @throws IOException
+     */
+    @ParameterizedTest
+    @MethodSource("jsonFilesProvider")
+    void testValid(final Path path) throws IOException {
+        final KeyCache keyCache = new KeyCache(2,
+                KeyCache.DEFAULT_MAX_KEY_LENGTH, KeyCache.Eviction.REPLACE);
+        final Object expected = Json.parse(new FileReader(path.toFile()),
+                (KeyCache) null);
+        Assertions.assertEquals(expected,
+                Json.parse(new FileReader(path.toFile()), keyCache));
+        Assertions.assertEquals(expected,
+                Json.parse(Files.readAllBytes(path)));
+    }
+
+    /**
+     * Tests repeated keys are the same instance.
+     * @throws IOException
+     */
+    @Test
+    void testCanonical() throws IOException {
+        final KeyCache keyCache = new KeyCache(KeyCache.DEFAULT_CAPACITY,
+                KeyCache.DEFAULT_MAX_KEY_LENGTH, KeyCache.Eviction.REPLACE,
+                true);
+        final List<Map<String, Object>> records = (List<Map<String, Object>>)
+                Json.parse(new StringReader(RECORDS), keyCache);
+
+        Assertions.assertSame(key(records.get(0), "id"),
+                key(records.get(1), "id"));
+        Assertions.assertSame(key(records.get(0), "name"),
+                key(records.get(1), "name"));
+        Assertions.assertNotSame(
+                key(records.get(0), "very_long_field_name_not_to_be_cached"),
+                key(records.get(1), "very_long_field_name_not_to_be_cached"));
+        Assertions.assertEquals(2, keyCache.getHits());
+        Assertions.assertEquals(2, keyCache.getMisses());
+
+        // Cached keys are shared by the next documents
+        final List<Map<String, Object>> bytesRecords =
+                (List<Map<String, Object>>) Json.parse(
+                        RECORDS.getBytes(StandardCharsets.UTF_8));
+        final List<Map<String, Object>> cachedRecords =
+                (List<Map<String, Object>>) Json.parse(
+                        new StringReader(RECORDS), keyCache);
+        Assertions.assertSame(key(records.get(0), "id"),
+                key(cachedRecords.get(0), "id"));
+        Assertions.assertEquals(records, bytesRecords);
+        Assertions.assertEquals(6, keyCache.getHits());
+
+        keyCache.clear();
+        Assertions.assertEquals(0, keyCache.getHits());
+        Assertions.assertEquals(0, keyCache.getMisses());
+    }
+
+    /**
+     * Tests hits and misses are not counted without statistics.
+     * @throws IOException
+     */
+    @Test
+    void testNoStatistics() throws IOException {
+        final KeyCache keyCache = new KeyCache();
+        final List<Map<String, Object>> records = (List<Map<String, Object>>)
+                Json.parse(new StringReader(RECORDS), keyCache);
+        Assertions.assertSame(key(records.get(0), "id"),
+                key(records.get(1), "id"));
+        Assertions.assertEquals(0, keyCache.getHits());
+        Assertions.assertEquals(0, keyCache.getMisses());
+        keyCache.clear();
+        Assertions.assertNotSame(key(records.get(0), "id"),
+                key((Map<String, Object>) Json.parse(new StringReader(
+                        "{\"id\": 3}"), keyCache), "id"));
+    }
+
+    /**
+     * Tests keys with escapes or non ASCII characters.
+     * @throws IOException
+     */
+    @Test
+    void testNotCached() throws IOException {
+        final String jsonText = "[{\"k\\u0065y\": 1, \"ключ\": 2},"
+                + " {\"k\\u0065y\": 1, \"ключ\": 2}]";
+        Assertions.assertEquals(
+                List.of(Map.of("key", (byte) 1, "ключ", (byte) 2),
+                        Map.of("key", (byte) 1, "ключ", (byte) 2)),
+                Json.parse(jsonText.getBytes(StandardCharsets.UTF_8)));
+        Assertions.assertEquals(Json.parse(new StringReader(jsonText)),
+                Json.parse(jsonText.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    /**
+     * Tests eviction of a key sharing the slot.
+     * @throws IOException
+     */
+    @Test
+    void testEviction() throws IOException {
+        final String jsonText = "[{\"a\": 1}, {\"b\": 1}, {\"a\": 1}]";
+
+        final KeyCache replace = new KeyCache(1,
+                KeyCache.DEFAULT_MAX_KEY_LENGTH, KeyCache.Eviction.REPLACE,
+                true);
+        Json.parse(new StringReader(jsonText), replace);
+        Assertions.assertEquals(0, replace.getHits());
+        Assertions.assertEquals(3, replace.getMisses());
+
+        final KeyCache keep = new KeyCache(1,
+                KeyCache.DEFAULT_MAX_KEY_LENGTH, KeyCache.Eviction.KEEP, true);
+        Json.parse(new StringReader(jsonText), keep);
+        Assertions.assertEquals(1, keep.getHits());
+        Assertions.assertEquals(2, keep.getMisses());
+    }
+
+    /**
+     * Tests a cache shared by parallel parsers.
+     */
+    @Test
+    void testConcurrent() throws IOException {
+        final KeyCache keyCache = new KeyCache(4,
+                KeyCache.DEFAULT_MAX_KEY_LENGTH, KeyCache.Eviction.REPLACE,
+                true);
+        final Set<Path> paths = TestDataProvider.getJSONFiles();
+        paths.parallelStream().forEach(path -> {
+            try {
+                Assertions.assertEquals(
+                        Json.parse(new FileReader(path.toFile()),
+                                (KeyCache) null),
+                        Json.parse(new FileReader(path.toFile()), keyCache));
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        Assertions.assertTrue(keyCache.getHits() + keyCache.getMisses() > 0);
+    }
+
+    /**
+     * Tests illegal capacity.
+     */
+    @Test
+    void testIllegalCapacity() {
+        assertThrows(IllegalArgumentException.class, () -> new KeyCache(0,
+                KeyCache.DEFAULT_MAX_KEY_LENGTH, KeyCache.Eviction.KEEP));
+        assertThrows(IllegalArgumentException.class, () -> new KeyCache(
+                Integer.MAX_VALUE, KeyCache.DEFAULT_MAX_KEY_LENGTH,
+                KeyCache.Eviction.KEEP));
+        Assertions.assertNotNull(new KeyCache(3,
+                KeyCache.DEFAULT_MAX_KEY_LENGTH, KeyCache.Eviction.KEEP));
+    }
+
+    private static Object key(final Map<String, Object> map,
+                              final String key) {
+        return map.keySet().stream()
+                .filter(key::equals).findFirst().orElseThrow();
+    }
+
+    private static Set<Path> jsonFilesProvider() throws IOException {
+        return TestDataProvider.getJSONFiles();
+    }
+}
@@ -0,0 +1,84 @@
+package com.techatpark.sjson;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Tests field name prefixes written by Json.write through KeyPrefixes.
+ */
+class KeyPrefixesTest {
+
+    /**
+     * Tests prefixes are escaped, and cached once a key is repeated.
+     */
+    @Test
+    void testPrefix() {
+        Assertions.assertEquals("\"id\":", KeyPrefixes.get("id"));
+        Assertions.assertEquals("\"a\\\"b\\/c\\n\":",
+                KeyPrefixes.get("a\"b/c\n"));
+        Assertions.assertEquals("\"\":", KeyPrefixes.get(""));
+
+        final String key = "prefix_" + System.nanoTime();
+        final String first = KeyPrefixes.get(key);
+        final String cached = KeyPrefixes.get(key);
+        Assertions.assertEquals(first, cached);
+        Assertions.assertNotSame(first, cached);
+        Assertions.assertSame(cached, KeyPrefixes.get(key));
+
+        final String longKey = "x".repeat(KeyPrefixes.MAX_KEY_LENGTH + 1);
+        Assertions.assertEquals("\"" + longKey + "\":",
+                KeyPrefixes.get(longKey));
+        Assertions.assertNotSame(KeyPrefixes.get(longKey),
+                KeyPrefixes.get(longKey));
+    }
+
+    /**
+     * Tests keys sharing a slot, where a key seen once does not evict
+     * the cached key and a repeated key replaces it.
+     */
+    @Test
+    void testCollision() {
+        // Keys having the same hash share the slot
+        Assertions.assertEquals("Aa".hashCode(), "BB".hashCode());
+        KeyPrefixes.get("Aa");
+        final String cached = KeyPrefixes.get("Aa");
+        Assertions.assertEquals("\"Aa\":", cached);
+        Assertions.assertEquals("\"BB\":", KeyPrefixes.get("BB"));
+        Assertions.assertSame(cached, KeyPrefixes.get("Aa"));
+
+        KeyPrefixes.get("BB");
+        final String replaced = KeyPrefixes.get("BB");
+        Assertions.assertEquals("\"BB\":", replaced);
+        Assertions.assertSame(replaced, KeyPrefixes.get("BB"));
+        Assertions.assertNotSame(cached, KeyPrefixes.get("Aa"));
+    }
+
+    /**
+     * Tests keys that are not Strings, and keys seen first and then
+     * cached, written as text and as UTF-8 bytes.
+     */
+    @Test
+    void testKeys() {
+        final String key = "k\u00e9y\u2019/" + System.nanoTime();
+        final Map<String, Integer> keyed = Map.of(key, 1);
+        final String expected = "{\"" + key.replace("\u2019", "\\u2019")
+                .replace("/", "\\/") + "\":1}";
+        for (int i = 0; i < 3; i++) {
+            Assertions.assertEquals(expected, new String(
+                    Json.toBytes(keyed), StandardCharsets.UTF_8));
+            Assertions.assertEquals(expected, Json.stringify(keyed));
+        }
+
+        final Map<Object, Object> map = new LinkedHashMap<>();
+        map.put(1, "one");
+        map.put(null, true);
+        map.put("Aa", Map.of("BB", 2));
+        Assertions.assertEquals(
+                "{\"1\":\"one\",\"null\":true,\"Aa\":{\"BB\":2}}",
+                Json.stringify(map));
+    }
+}
@@ -0,0 +1,155 @@
+package com.techatpark.sjson;
+
+import com.techatpark.sjson.util.TestDataProvider;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.FileReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Tests Lazy views returned by Json.parseLazy.
+ */
+class LazyTest {
+
+    /**
+     * Tests lazy views are equal to the eagerly read values.
+     * @param path
+     * @throws IOException
+     */
+    @ParameterizedTest
+    @MethodSource("jsonFilesProvider")
+    void testValid(final Path path) throws IOException {
+        final Object expected = Json.parse(new FileReader(path.toFile()));
+        final Object lazy = Json.parseLazy(new FileReader(path.toFile()));
+        Assertions.assertEquals(expected, lazy, "Lazy failed for " + path);
+        Assertions.assertEquals(lazy, expected, "Lazy failed for " + path);
+        Assertions.assertEquals(expected.hashCode(), lazy.hashCode());
+    }
+
+    /**
+     * Tests values are read once and cached.
+     * @throws IOException
+     */
+    @Test
+    void testCached() throws IOException {
+        final Map<?, ?> map = (Map<?, ?>) Json.parseLazy(new StringReader(
+                "{\"a\": {\"b\": 1}, \"c\": [\"x\", null], \"d\": null}"));
+
+        Assertions.assertEquals(3, map.size());
+        Assertions.assertSame(map.get("a"), map.get("a"));
+        Assertions.assertEquals(Map.of("b", (byte) 1), map.get("a"));
+        Assertions.assertTrue(map.containsKey("d"));
+        Assertions.assertNull(map.get("d"));
+        Assertions.assertNull(map.get("e"));
+        Assertions.assertFalse(map.containsKey("e"));
+
+        final List<?> list = (List<?>) map.get("c");
+        Assertions.assertSame(list.get(0), list.get(0));
+        Assertions.assertNull(list.get(1));
+        Assertions.assertEquals(2, list.size());
+
+        assertThrows(UnsupportedOperationException.class,
+                () -> ((Map<String, Object>) map).put("e", 1));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(2));
+    }
+
+    /**
+     * Tests values which are not accessed are not created, by comparing
+     * bytes allocated over the characters with those of Json.parse.
+     * @throws IOException
+     */
+    @Test
+    void testSkipped() throws IOException {
+        final StringBuilder sb = new StringBuilder("{\"items\": [");
+        for (int i = 0; i < 10_000; i++) {
+            sb.append(i == 0 ? "" : ",").append("{\"name\": \"item ")
+                    .append(i).append("\", \"price\": ").append(i * 1.5)
+                    .append('}');
+        }
+        final String jsonText = sb.append("], \"count\": 10000}").toString();
+
+        final char[] content = jsonText.toCharArray();
+
+        final com.sun.management.ThreadMXBean threadMXBean =
+                (com.sun.management.ThreadMXBean)
+                        ManagementFactory.getThreadMXBean();
+        long eager = Long.MAX_VALUE;
+        long lazy = Long.MAX_VALUE;
+        for (int i = 0; i < 5; i++) {
+            long before = threadMXBean.getCurrentThreadAllocatedBytes();
+            Assertions.assertEquals((short) 10_000, ((Map<?, ?>) Json.parse(
+                    new StringReader(jsonText))).get("count"));
+            eager = Math.min(eager,
+                    threadMXBean.getCurrentThreadAllocatedBytes() - before);
+
+            before = threadMXBean.getCurrentThreadAllocatedBytes();
+            Assertions.assertEquals((short) 10_000, ((Map<?, ?>) JsonLazy
+                    .parse(content, content.length)).get("count"));
+            lazy = Math.min(lazy,
+                    threadMXBean.getCurrentThreadAllocatedBytes() - before);
+        }
+        // None of the items is created
+        Assertions.assertTrue(lazy < 16 * 1024,
+                "Lazy allocated " + lazy + " bytes");
+        Assertions.assertTrue(lazy * 100 < eager,
+                "Lazy allocated " + lazy + " bytes, eager " + eager);
+    }
+
+    /**
+     * Tests the last value of a repeated name wins, like Json.parse.
+     * @throws IOException
+     */
+    @Test
+    void testDuplicateNames() throws IOException {
+        final String jsonText = "{\"a\": 1, \"b\": [], \"a\": \"x\"}";
+        final Map<?, ?> map = (Map<?, ?>) Json.parseLazy(
+                new StringReader(jsonText));
+        Assertions.assertEquals(Json.parse(new StringReader(jsonText)), map);
+        Assertions.assertEquals(2, map.size());
+        Assertions.assertEquals("x", map.get("a"));
+    }
+
+    /**
+     * Tests Illegal JSON Texts, which are reported when the invalid
+     * value is read.
+     * @param jsonText
+     */
+    @ParameterizedTest
+    @ValueSource(strings = {"]", "", "[1,]", "[1 2]", "{\"a\" 1}",
+            "{1: 2}", "{\"a\": 1,}", "{\"a\": 1 \"b\": 2}", "[1,",
+            "{\"a\": }"})
+    void testIllegal(final String jsonText) {
+        assertThrows(IllegalArgumentException.class,
+                () -> Json.parseLazy(new StringReader(jsonText)));
+    }
+
+    /**
+     * Tests invalid values are reported when they are read.
+     * @throws IOException
+     */
+    @Test
+    void testIllegalValue() throws IOException {
+        final List<?> list = (List<?>) Json.parseLazy(
+                new StringReader("[1, \"\\x\", [1 2]]"));
+        Assertions.assertEquals(3, list.size());
+        Assertions.assertEquals((byte) 1, list.get(0));
+        assertThrows(IllegalArgumentException.class, () -> list.get(1));
+        assertThrows(IllegalArgumentException.class, () -> list.get(2));
+    }
+
+    private static Set<Path> jsonFilesProvider() throws IOException {
+        return TestDataProvider.getJSONFiles();
+    }
+}
@@ -0,0 +1,221 @@
+package com.techatpark.sjson;
+
+import com.techatpark.sjson.util.TestDataProvider;
+import org.github.jamm.MemoryMeter;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Guards the memory footprint of Json.parse against a stored baseline.
+ * <p>
+ * For every sample it measures
+ * 1) retained bytes of the parsed value (jamm MemoryMeter.measureDeep)
+ * 2) bytes allocated by the thread while parsing (ThreadMXBean)
+ * and fails when either exceeds the baseline beyond its tolerance.
+ * <p>
+ * After an intended change, the baseline is rewritten by running
+ * mvn test -Dtest=MemoryRegressionTest -Dsjson.baseline.update=true
+ * <p>
+ * The baseline records the JVM and the object layout (header and
+ * reference sizes) it was measured with. Retained bytes depend only on
+ * the layout, so the test fails on a JVM of another layout, asking for
+ * the baseline to be rewritten there. Allocations also depend on the
+ * JIT, so on another JVM of the same layout they are checked with the
+ * looser cross JVM tolerance, and a warning is printed. Tolerances can
+ * be set with -Dsjson.baseline.retainedTolerance,
+ * -Dsjson.baseline.allocatedTolerance and
+ * -Dsjson.baseline.crossJvmTolerance, e.g. 0.05 for 5%.
+ */
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class MemoryRegressionTest {
+
+    /**
+     * Stored baseline.
+     */
+    private static final Path BASELINE =
+            Path.of("src/test/resources/baseline/memory.properties");
+
+    /**
+     * Allowed growth of retained bytes.
+     */
+    private static final double RETAINED_TOLERANCE = Double.parseDouble(
+            System.getProperty("sjson.baseline.retainedTolerance", "0.02"));
+
+    /**
+     * Allowed growth of allocated bytes. JIT may change allocations
+     * between runs, so this is looser.
+     */
+    private static final double ALLOCATED_TOLERANCE = Double.parseDouble(
+            System.getProperty("sjson.baseline.allocatedTolerance", "0.10"));
+
+    /**
+     * Allowed growth of allocated bytes, when the baseline is measured
+     * on another JVM of the same object layout.
+     */
+    private static final double CROSS_JVM_TOLERANCE = Double.parseDouble(
+            System.getProperty("sjson.baseline.crossJvmTolerance", "0.25"));
+
+    /**
+     * Key of the JVM the baseline is measured on.
+     */
+    private static final String JVM = "jvm";
+
+    /**
+     * Key of the object layout the baseline is measured with.
+     */
+    private static final String LAYOUT = "layout";
+
+    /**
+     * Allowed growth in bytes for small samples.
+     */
+    private static final long SLACK = 512;
+
+    /**
+     * Parses before measuring, so that allocations are of compiled code.
+     */
+    private static final int WARMUP = 20;
+
+    /**
+     * Parses measured. Least allocation is taken.
+     */
+    private static final int RUNS = 5;
+
+    private final MemoryMeter meter = MemoryMeter.builder().build();
+
+    private final com.sun.management.ThreadMXBean threadMXBean =
+            (com.sun.management.ThreadMXBean)
+                    ManagementFactory.getThreadMXBean();
+
+    private final boolean update =
+            Boolean.getBoolean("sjson.baseline.update");
+
+    private final Properties baseline = new Properties();
+
+    private final Map<String, Long> measured = new TreeMap<>();
+
+    @BeforeAll
+    void loadBaseline() throws IOException {
+        if (Files.exists(BASELINE)) {
+            try (var reader = Files.newBufferedReader(BASELINE)) {
+                baseline.load(reader);
+            }
+        }
+        if (!update && !jvm().equals(baseline.getProperty(JVM))) {
+            System.err.println("WARNING: Memory baseline is of "
+                    + baseline.getProperty(JVM) + ", not of " + jvm()
+                    + ". Allocations are checked within "
+                    + CROSS_JVM_TOLERANCE + ". Rewrite the baseline with"
+                    + " -Dsjson.baseline.update=true on the target JVM.");
+        }
+    }
+
+    /**
+     * Tests memory of parsing a sample against the baseline.
+     * <p>
+     * Steps:
+     * 1) Parse the sample till allocations are stable.
+     * 2) Measure allocated bytes of a parse and retained bytes of value.
+     * </p>
+     * Expected Result:
+     * Both are within tolerance of the baseline of the sample.
+     *
+     * @param path sample
+     * @throws IOException if an error occurs during parsing.
+     */
+    @ParameterizedTest
+    @MethodSource("jsonFilesProvider")
+    void testMemory(final Path path) throws IOException {
+        final String jsonText = Files.readString(path);
+        final String name = path.getFileName().toString();
+
+        for (int i = 0; i < WARMUP; i++) {
+            Json.parse(new StringReader(jsonText));
+        }
+        long allocated = Long.MAX_VALUE;
+        Object value = null;
+        for (int i = 0; i < RUNS; i++) {
+            final StringReader reader = new StringReader(jsonText);
+            final long before = threadMXBean.getCurrentThreadAllocatedBytes();
+            value = Json.parse(reader);
+            allocated = Math.min(allocated,
+                    threadMXBean.getCurrentThreadAllocatedBytes() - before);
+        }
+        final long retained = meter.measureDeep(value);
+
+        measured.put(name + ".retained", retained);
+        measured.put(name + ".allocated", allocated);
+
+        if (!update) {
+            Assertions.assertEquals(baseline.getProperty(LAYOUT), layout(),
+                    "Baseline is of another object layout, run with "
+                            + "-Dsjson.baseline.update=true");
+            assertWithin(name + ".retained", retained, RETAINED_TOLERANCE);
+            assertWithin(name + ".allocated", allocated,
+                    jvm().equals(baseline.getProperty(JVM))
+                            ? ALLOCATED_TOLERANCE : CROSS_JVM_TOLERANCE);
+        }
+    }
+
+    @AfterAll
+    void storeBaseline() throws IOException {
+        if (update) {
+            final StringBuilder sb = new StringBuilder(
+                    "# Memory baseline of Json.parse, see "
+                            + "MemoryRegressionTest\n");
+            sb.append(JVM).append('=').append(jvm()).append('\n');
+            sb.append(LAYOUT).append('=').append(layout()).append('\n');
+            measured.forEach((key, bytes) ->
+                    sb.append(key).append('=').append(bytes).append('\n'));
+            Files.writeString(BASELINE, sb);
+        }
+    }
+
+    /**
+     * Gets the JVM measuring, as Java version and VM name.
+     * @return jvm
+     */
+    private static String jvm() {
+        return System.getProperty("java.specification.version") + " "
+                + System.getProperty("java.vm.name");
+    }
+
+    /**
+     * Gets the object layout, as bytes of an empty array and of an array
+     * of two references.
+     * @return layout
+     */
+    private String layout() {
+        return meter.measure(new Object[0]) + " "
+                + meter.measure(new Object[2]);
+    }
+
+    private void assertWithin(final String key,
+                              final long bytes,
+                              final double tolerance) {
+        final String expected = baseline.getProperty(key);
+        Assertions.assertNotNull(expected, "No baseline for " + key
+                + ", run with -Dsjson.baseline.update=true");
+        final long limit = (long) (Long.parseLong(expected)
+                * (1 + tolerance)) + SLACK;
+        Assertions.assertTrue(bytes <= limit, key + " regressed to "
+                + bytes + " bytes from baseline " + expected);
+    }
+
+    private static Set<Path> jsonFilesProvider() throws IOException {
+        return TestDataProvider.getJSONFiles();
+    }
+}
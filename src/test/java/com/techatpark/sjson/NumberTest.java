@@ -6,12 +6,21 @@ import com.techatpark.sjson.element.JsonNumber;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 
 import java.io.IOException;
 import java.io.StringReader;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.lang.management.ManagementFactory;
+import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.nio.CharBuffer;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
+import java.util.Random;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -96,6 +105,60 @@ class NumberTest {
         );
     }
 
+    /**
+     * Tests numbers read from their Json Text.
+     * <p>
+     * Steps:
+     * 1) Parse the Json Text of a number.
+     * 2) Verify that the parsed value matches the expected type and value.
+     * </p>
+     * Expected Result:
+     * Integers fit the smallest type, decimals are float or double and
+     * exponents without fraction are big numbers.
+     *
+     * @param jsonText the number as Json Text.
+     * @param expectedNumber the expected value.
+     * @throws IOException if an error occurs during parsing.
+     */
+    @ParameterizedTest
+    @MethodSource("numberTexts")
+    void testNumberTexts(final String jsonText, final Number expectedNumber)
+            throws IOException {
+        Assertions.assertEquals(expectedNumber,
+                Json.parse(new StringReader(jsonText)));
+        Assertions.assertEquals(List.of(expectedNumber),
+                Json.parse(new StringReader("[" + jsonText + " ]")));
+    }
+
+    /**
+     * Provides Json Texts of numbers and their values.
+     *
+     * @return A stream of text and value.
+     */
+    static Stream<Arguments> numberTexts() {
+        return Stream.of(
+                Arguments.of("-0", (byte) 0),
+                Arguments.of("+789", (short) 789),
+                Arguments.of("00123", (byte) 123),
+                Arguments.of("-9223372036854775808", Long.MIN_VALUE),
+                Arguments.of("9223372036854775808",
+                        new BigInteger("9223372036854775808")),
+                Arguments.of("-0.0", -0.0f),
+                Arguments.of("-.5", -0.5f),
+                Arguments.of("1.", 1.0f),
+                Arguments.of("1.5e3", 1500.0f),
+                Arguments.of("1.5E-3", 0.0015f),
+                Arguments.of("0.4e+006", 400000.0f),
+                Arguments.of("1.7976931348623157e308", Double.MAX_VALUE),
+                Arguments.of("0.12345678901234567890123",
+                        (float) 0.12345678901234567890123),
+                Arguments.of("1.0e-400", 0.0f),
+                Arguments.of("1e5", BigInteger.valueOf(100000)),
+                Arguments.of("1E2", BigInteger.valueOf(100)),
+                Arguments.of("1e-06", new BigDecimal("0.000001"))
+        );
+    }
+
     /**
      * Tests invalid numbers that should trigger an exception.
      * <p>
@@ -133,7 +196,13 @@ class NumberTest {
                 "123abc", // Contains non-numeric characters
                 "0x1A", // Hexadecimal notation unsupported
                 "1.2.3", // Multiple decimal points
-                "1e+2.3" // Exponential notation misuse
+                "1e+2.3", // Exponential notation misuse
+                "1e", // Exponent without digits
+                "1e+-2", // Exponent with two signs
+                "1ee2", // Two exponents
+                "--1", // Two signs
+                "-", // Sign without digits
+                "[1\"a\"]" // Not ended by a delimiter
         );
     }
 
@@ -158,11 +227,170 @@ class NumberTest {
         testCursor(jsonString,"    ,\n\t1");
     }
 
+    /**
+     * Tests numbers written as Json Text are read back as the same
+     * values.
+     * @param expectedNumber
+     * @throws IOException
+     */
+    @ParameterizedTest
+    @MethodSource("validNumbers")
+    void testWriteValidNumbers(final Number expectedNumber)
+            throws IOException {
+        Assertions.assertEquals(expectedNumber,
+                Json.parse(new StringReader(Json.stringify(expectedNumber))));
+    }
+
+    /**
+     * Tests Json Text of numbers is the same for all sinks.
+     * @param number
+     * @param expected
+     * @throws IOException
+     */
+    @ParameterizedTest
+    @MethodSource("numberWrites")
+    void testWrite(final Number number, final String expected)
+            throws IOException {
+        Assertions.assertEquals(expected, Json.stringify(number));
+        Assertions.assertEquals(expected,
+                new String(Json.toBytes(number), StandardCharsets.UTF_8));
+        final StringWriter writer = new StringWriter();
+        Json.write(number, writer);
+        Assertions.assertEquals(expected, writer.toString());
+        // Through the buffer of a sink
+        final StringWriter listWriter = new StringWriter();
+        Json.write(List.of(number), listWriter);
+        Assertions.assertEquals("[" + expected + "]", listWriter.toString());
+        // Appendable other than StringBuilder and Writer
+        final CharBuffer charBuffer = CharBuffer.allocate(64);
+        Json.write(number, charBuffer);
+        Assertions.assertEquals(expected, charBuffer.flip().toString());
+    }
+
+    /**
+     * Tests numbers in containers written into a Writer do not create
+     * Strings, and the sink passes everything to the Writer.
+     * @throws IOException
+     */
+    @Test
+    void testWriterSink() throws IOException {
+        final List<Double> values = new Random(25).doubles(10_000)
+                .boxed().toList();
+        final StringWriter writer = new StringWriter();
+        Json.write(values, writer);
+        Assertions.assertEquals(Json.stringify(values), writer.toString());
+
+        final com.sun.management.ThreadMXBean threadMXBean =
+                (com.sun.management.ThreadMXBean)
+                        ManagementFactory.getThreadMXBean();
+        long allocated = Long.MAX_VALUE;
+        long inPlace = Long.MAX_VALUE;
+        long texts = Long.MAX_VALUE;
+        for (int i = 0; i < 5; i++) {
+            long before = threadMXBean.getCurrentThreadAllocatedBytes();
+            Json.write(values, Writer.nullWriter());
+            allocated = Math.min(allocated,
+                    threadMXBean.getCurrentThreadAllocatedBytes() - before);
+
+            final StringBuilder sb = new StringBuilder(1 << 20);
+            before = threadMXBean.getCurrentThreadAllocatedBytes();
+            Json.write(values, sb);
+            inPlace = Math.min(inPlace,
+                    threadMXBean.getCurrentThreadAllocatedBytes() - before);
+
+            before = threadMXBean.getCurrentThreadAllocatedBytes();
+            for (final Double value : values) {
+                Json.write(value, Writer.nullWriter());
+            }
+            texts = Math.min(texts,
+                    threadMXBean.getCurrentThreadAllocatedBytes() - before);
+        }
+        // Same as laying out in place, without a String per number
+        Assertions.assertTrue(allocated < inPlace + 1024,
+                "Allocated " + allocated + " bytes, in place " + inPlace);
+        Assertions.assertTrue(allocated < texts,
+                "Allocated " + allocated + " bytes, as texts " + texts);
+
+        final StringWriter target = new StringWriter();
+        try (Writer sink = (Writer) NumberWriter.sink(target)) {
+            Assertions.assertSame(sink, NumberWriter.sink(sink));
+            sink.append("[\"x").append("\"]", 0, 1).write(',');
+            Json.write(List.of("a\"b", 1.5f), sink);
+            sink.write("]");
+            sink.flush();
+        }
+        Assertions.assertEquals("[\"x\",[\"a\\\"b\",1.5]]",
+                target.toString());
+    }
+
+    /**
+     * Provides numbers and their Json Text.
+     *
+     * @return A stream of number and text.
+     */
+    private static Stream<Arguments> numberWrites() {
+        return Stream.of(
+                Arguments.of(0, "0"),
+                Arguments.of(-7L, "-7"),
+                Arguments.of(Long.MIN_VALUE, "-9223372036854775808"),
+                Arguments.of((byte) -128, "-128"),
+                Arguments.of(new BigInteger("-42"), "-42"),
+                Arguments.of(new BigInteger("123456789012345678901234"),
+                        "123456789012345678901234"),
+                Arguments.of(new BigDecimal("1E+3"), "1E+3"),
+                Arguments.of(new BigDecimal(
+                        "1234567890.123456789012345678901234567890"),
+                        "1234567890.123456789012345678901234567890"),
+                Arguments.of(0.0, "0.0"),
+                Arguments.of(-0.0, "-0.0"),
+                Arguments.of(2.0, "2.0"),
+                Arguments.of(2.0f, "2.0"),
+                Arguments.of(0.1f, "0.1"),
+                Arguments.of(123.456, "123.456"),
+                Arguments.of(1e7, "10000000.0"),
+                Arguments.of(-1e20, "-100000000000000000000.0"),
+                Arguments.of(1e21, "1.0e+21"),
+                Arguments.of(1.5e300, "1.5e+300"),
+                Arguments.of(0.001, "0.001"),
+                Arguments.of(1.2345e-6, "0.0000012345"),
+                Arguments.of(1.2345e-7, "1.2345e-7"),
+                Arguments.of(1e-7, "1.0e-7"),
+                Arguments.of(1e-10f, "1.0e-10"),
+                Arguments.of(-2.5e-8, "-2.5e-8"),
+                Arguments.of(Double.MAX_VALUE, "1.7976931348623157e+308"),
+                Arguments.of(Double.NaN, "null"),
+                Arguments.of(Double.NEGATIVE_INFINITY, "null"),
+                Arguments.of(Float.POSITIVE_INFINITY, "null"),
+                Arguments.of(Float.NaN, "null")
+        );
+    }
+
+    /**
+     * Tests random doubles and floats are read back as the same values.
+     * @throws IOException
+     */
+    @Test
+    void testWriteShortest() throws IOException {
+        final Random random = new Random(25);
+        for (int i = 0; i < 10000; i++) {
+            final double value = Double.longBitsToDouble(random.nextLong());
+            if (Double.isFinite(value)) {
+                Assertions.assertEquals(value,
+                        Double.parseDouble(Json.stringify(value)));
+            }
+            final float floatValue = Float.intBitsToFloat(random.nextInt());
+            if (Float.isFinite(floatValue)) {
+                Assertions.assertEquals(floatValue,
+                        Float.parseFloat(Json.stringify(floatValue)));
+            }
+        }
+    }
+
     private void testCursor(final String jsonString, final String suffix) throws IOException {
         final StringReader reader = new StringReader(jsonString + suffix);
-        final Json.Parser parser = new Json.Parser(reader);
+        final Json.Parser parser = new ReaderParser(reader);
         final char firstChar = parser.nextClean(); // Move to First Digit
-        new JsonNumber(parser,reader,  firstChar);
+        new JsonNumber(parser, firstChar);
         assertEquals('1',
                 parser.nextClean());
     }
@@ -0,0 +1,108 @@
+package com.techatpark.sjson;
+
+import com.techatpark.sjson.util.TestDataProvider;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.FileReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Tests parallel parsing of top level arrays.
+ */
+class ParallelTest {
+
+    /**
+     * Tests values are equal to the sequentially read values.
+     * @param path
+     * @throws IOException
+     */
+    @ParameterizedTest
+    @MethodSource("jsonFilesProvider")
+    void testValid(final Path path) throws IOException {
+        final Object expected = Json.parse(new FileReader(path.toFile()));
+        Assertions.assertEquals(expected, Json.parseParallel(
+                Files.readAllBytes(path), ForkJoinPool.commonPool()));
+        Assertions.assertEquals(expected,
+                Json.parseParallel(path, ForkJoinPool.commonPool()));
+    }
+
+    /**
+     * Tests a large array which is split into many tasks.
+     * @param tempDir
+     * @throws IOException
+     */
+    @Test
+    void testLarge(@TempDir final Path tempDir) throws IOException {
+        final StringBuilder sb = new StringBuilder("\n[ ");
+        for (int i = 0; i < 20_000; i++) {
+            if (i != 0) {
+                sb.append(" ,\n");
+            }
+            sb.append("{\"id\": ").append(i)
+                    .append(", \"name\": \"na\\\"m,e]}").append(i)
+                    .append("\", \"tags\": [\"é,\", [], {}], \"n\": null}");
+        }
+        final String jsonText = sb.append("] ").toString();
+        final Path path = tempDir.resolve("large.json");
+        Files.writeString(path, jsonText);
+
+        final Object expected = Json.parse(new StringReader(jsonText));
+        final ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            Assertions.assertEquals(expected,
+                    Json.parseParallel(path, pool));
+            Assertions.assertEquals(expected, Json.parseParallel(
+                    jsonText.getBytes(StandardCharsets.UTF_8), pool));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Tests small and empty arrays.
+     * @throws IOException
+     */
+    @Test
+    void testSmall() throws IOException {
+        Assertions.assertEquals(List.of(), parse("[]"));
+        Assertions.assertEquals(List.of(), parse(" [ \n ] "));
+        Assertions.assertEquals(List.of(List.of()), parse("[[]]"));
+        Assertions.assertEquals(List.of("a", true), parse("[\"a\",true]"));
+        Assertions.assertEquals("a", parse(" \"a\""));
+    }
+
+    /**
+     * Tests Illegal JSON Texts.
+     * @param jsonText
+     */
+    @ParameterizedTest
+    @ValueSource(strings = {"[1,]", "[,1]", "[1,,2]", "[1}", "[1",
+            "[\"a]", "[\"a\\\"]", "[{]", " ", ""})
+    void testIllegal(final String jsonText) {
+        assertThrows(IllegalArgumentException.class,
+                () -> parse(jsonText));
+    }
+
+    private static Object parse(final String jsonText) throws IOException {
+        return Json.parseParallel(jsonText.getBytes(StandardCharsets.UTF_8),
+                ForkJoinPool.commonPool());
+    }
+
+    private static Set<Path> jsonFilesProvider() throws IOException {
+        return TestDataProvider.getJSONFiles();
+    }
+}
@@ -0,0 +1,123 @@
+package com.techatpark.sjson;
+
+import com.techatpark.sjson.util.TestDataProvider;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.FileReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Tests parsers reused by ParserContext and ParserPool.
+ */
+class ParserContextTest {
+
+    /**
+     * Tests a context reused for all the samples and content types.
+     * @throws IOException
+     */
+    @Test
+    void testReuse() throws IOException {
+        final ParserContext context = new ParserContext();
+        for (final Path path : TestDataProvider.getJSONFiles()) {
+            final Object expected = Json.parse(new FileReader(path.toFile()));
+            final byte[] bytes = Files.readAllBytes(path);
+            Assertions.assertEquals(expected,
+                    context.parse(new FileReader(path.toFile())));
+            Assertions.assertEquals(expected, context.parse(bytes));
+            Assertions.assertEquals(expected,
+                    context.parse(new ByteArrayInputStream(bytes)));
+        }
+    }
+
+    /**
+     * Tests a context is usable after an illegal document.
+     * @throws IOException
+     */
+    @Test
+    void testAfterIllegal() throws IOException {
+        final ParserContext context = new ParserContext();
+        final String illegal = "{\"a\": [{\"b\": \"\\x\"";
+        final String legal = "{\"a\": [{\"b\": \"\\u00e9\\t\"}], \"c\": true}";
+        final Map<String, Object> expected =
+                Map.of("a", List.of(Map.of("b", "\u00e9\t")), "c", true);
+
+        for (int i = 0; i < 2; i++) {
+            assertThrows(IllegalArgumentException.class,
+                    () -> context.parse(new StringReader(illegal)));
+            Assertions.assertEquals(expected,
+                    context.parse(new StringReader(legal)));
+            assertThrows(IllegalArgumentException.class,
+                    () -> context.parse(bytes(illegal)));
+            Assertions.assertEquals(expected, context.parse(bytes(legal)));
+            assertThrows(IllegalArgumentException.class,
+                    () -> context.parse(
+                            new ByteArrayInputStream(bytes(illegal))));
+            Assertions.assertEquals(expected,
+                    context.parse(new ByteArrayInputStream(bytes(legal))));
+        }
+    }
+
+    /**
+     * Tests illegal unicode escapes.
+     */
+    @Test
+    void testIllegalUnicode() {
+        assertThrows(IllegalArgumentException.class,
+                () -> Json.parse(new StringReader("\"\\u00g9\"")));
+        assertThrows(IllegalArgumentException.class,
+                () -> Json.parse(new StringReader("\"\\u00")));
+    }
+
+    /**
+     * Tests a pool shared by virtual threads.
+     * @throws Exception
+     */
+    @Test
+    void testPool() throws Exception {
+        final ParserPool pool = new ParserPool(2);
+        final List<Path> paths =
+                new ArrayList<>(TestDataProvider.getJSONFiles());
+        final List<Future<?>> futures = new ArrayList<>();
+        try (ExecutorService executor =
+                     Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < 100; i++) {
+                final Path path = paths.get(i % paths.size());
+                futures.add(executor.submit(() -> {
+                    final Object expected =
+                            Json.parse(new FileReader(path.toFile()));
+                    final byte[] bytes = Files.readAllBytes(path);
+                    Assertions.assertEquals(expected,
+                            pool.parse(new FileReader(path.toFile())));
+                    Assertions.assertEquals(expected, pool.parse(bytes));
+                    Assertions.assertEquals(expected, pool.parse(
+                            new ByteArrayInputStream(bytes)));
+                    return null;
+                }));
+            }
+            for (final Future<?> future : futures) {
+                future.get();
+            }
+        }
+        Assertions.assertTrue(pool.size() > 0 && pool.size() <= 2);
+        Assertions.assertEquals(List.of((byte) 1),
+                ParserPool.getDefault().parse(new StringReader("[1]")));
+    }
+
+    private static byte[] bytes(final String jsonText) {
+        return jsonText.getBytes(StandardCharsets.UTF_8);
+    }
+}
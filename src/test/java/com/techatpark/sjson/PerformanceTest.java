@@ -13,7 +13,6 @@ import org.junit.jupiter.api.TestInstance;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
 
-import java.io.BufferedReader;
 import java.io.FileReader;
 import java.io.IOException;
 import java.io.StringReader;
@@ -58,26 +57,26 @@ class PerformanceTest {
 
         // Org JSON
         long start = System.nanoTime();
-        JSONTokener jsonTokener = new JSONTokener(new BufferedReader(new FileReader(path.toFile())));
+        JSONTokener jsonTokener = new JSONTokener(new FileReader(path.toFile()));
         Map orgJsonObject = new JSONObject(jsonTokener).toMap();
         long orgjsonTime = System.nanoTime() - start;
         long orgjsonSize = meter.measureDeep(orgJsonObject);
 
         // Our Json
         start = System.nanoTime();
-        Object ourJsonObject = Json.parse(new BufferedReader(new FileReader(path.toFile())));
+        Object ourJsonObject = Json.parse(new FileReader(path.toFile()));
         long oursTime = System.nanoTime() - start;
         long oursSize = meter.measureDeep(ourJsonObject);
 
         // Jackson
         start = System.nanoTime();
-        Map jacksonJson = jackson.readValue(new BufferedReader(new FileReader(path.toFile())), Map.class);
+        Map jacksonJson = jackson.readValue(new FileReader(path.toFile()), Map.class);
         long jacksonsTime = System.nanoTime() - start;
         long jacksonsSize = meter.measureDeep(jacksonJson);
 
         // Gson
         start = System.nanoTime();
-        Map gsonJson = gson.fromJson(new BufferedReader(new FileReader(path.toFile())), Map.class);
+        Map gsonJson = gson.fromJson(new FileReader(path.toFile()), Map.class);
         long gsonTime = System.nanoTime() - start;
         long gsonSize = meter.measureDeep(gsonJson);
 
@@ -0,0 +1,107 @@
+package com.techatpark.sjson;
+
+import com.techatpark.sjson.util.TestDataProvider;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.FileReader;
+import java.io.FilterReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Tests skipping of values by the parsers.
+ */
+class SkipTest {
+
+    /**
+     * Tests whole samples are skipped.
+     * @param path
+     * @throws IOException
+     */
+    @ParameterizedTest
+    @MethodSource("jsonFilesProvider")
+    void testSamples(final Path path) throws IOException {
+        try (Reader reader = new FileReader(path.toFile())) {
+            final Json.Parser parser = new ReaderParser(reader);
+            Assertions.assertEquals((char) -1,
+                    parser.skipValue(parser.nextClean()));
+        }
+        final Json.Parser parser = new Utf8Parser(Files.readAllBytes(path));
+        Assertions.assertEquals((char) -1,
+                parser.skipValue(parser.nextClean()));
+    }
+
+    /**
+     * Tests the value is skipped till the next clean character, even
+     * when it is read a character at a time.
+     * @param json
+     * @throws IOException
+     */
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "\"a\\\\\" ,", "\"\\\"}]\" ,", "{\"a\": [\"]\", {}], \"}\": 1} ,",
+            "[[[\"\\u005d\"]], [{}]] ,", "true ,", "false,", "null\n,",
+            "-1.5e+3 ,", "42,", "\"π ℝ 😀\" ,"})
+    void testValue(final String value) throws IOException {
+        Json.Parser parser = new ReaderParser(new FilterReader(
+                new StringReader(value)) {
+            @Override
+            public int read(final char[] cbuf, final int off,
+                            final int len) throws IOException {
+                return super.read(cbuf, off, Math.min(len, 1));
+            }
+        });
+        Assertions.assertEquals(',', parser.skipValue(parser.nextClean()));
+        Assertions.assertEquals((char) -1, parser.nextClean());
+
+        parser = new Utf8Parser(value.getBytes(StandardCharsets.UTF_8));
+        Assertions.assertEquals(',', parser.skipValue(parser.nextClean()));
+        Assertions.assertEquals((char) -1, parser.nextClean());
+    }
+
+    /**
+     * Tests a number at the end of content.
+     * @throws IOException
+     */
+    @ParameterizedTest
+    @ValueSource(strings = {"7", "7 ", "\"x\""})
+    void testEnd(final String value) throws IOException {
+        final Json.Parser parser = new ReaderParser(new StringReader(value));
+        Assertions.assertEquals((char) -1,
+                parser.skipValue(parser.nextClean()));
+    }
+
+    /**
+     * Tests illegal values.
+     * @param value
+     */
+    @ParameterizedTest
+    @ValueSource(strings = {"\"abc", "\"abc\\\"", "{\"a\": [1}", "[[]",
+            "tru", "nul", "?", "]"})
+    void testIllegal(final String value) {
+        assertThrows(IllegalArgumentException.class, () -> {
+            final Json.Parser parser = new ReaderParser(
+                    new StringReader(value));
+            parser.skipValue(parser.nextClean());
+        });
+        assertThrows(IllegalArgumentException.class, () -> {
+            final Json.Parser parser = new Utf8Parser(
+                    value.getBytes(StandardCharsets.UTF_8));
+            parser.skipValue(parser.nextClean());
+        });
+    }
+
+    private static Stream<Path> jsonFilesProvider() throws IOException {
+        return TestDataProvider.getJSONFiles().stream();
+    }
+}
@@ -0,0 +1,247 @@
+package com.techatpark.sjson;
+
+import com.techatpark.sjson.util.TestDataProvider;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.FileReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Tests views of the tape returned by Json.parseTape.
+ */
+class TapeTest {
+
+    /**
+     * Tests tape values are equal to the values read by parse.
+     * @param path
+     * @throws IOException
+     */
+    @ParameterizedTest
+    @MethodSource("jsonFilesProvider")
+    void testValid(final Path path) throws IOException {
+        final Object expected = Json.parse(new FileReader(path.toFile()));
+        final Object tape = Json.parseTape(new FileReader(path.toFile()));
+        Assertions.assertEquals(expected, tape, "Tape failed for " + path);
+        Assertions.assertEquals(tape, expected, "Tape failed for " + path);
+        Assertions.assertEquals(expected.hashCode(), tape.hashCode());
+        Assertions.assertEquals(expected,
+                Json.parseTape(Files.readAllBytes(path)));
+        Assertions.assertEquals(
+                Json.parse(new StringReader(Json.stringify(expected))),
+                Json.parse(new StringReader(Json.stringify(tape))));
+    }
+
+    /**
+     * Tests numbers keep the type read by parse.
+     * @throws IOException
+     */
+    @Test
+    void testNumbers() throws IOException {
+        final String jsonText = "[1, -300, 70000, -5000000000, 1.5, 1.0e400,"
+                + " 123456789012345678901234567890, 1E-400, 0.1]";
+        final List<?> expected = (List<?>) Json.parse(
+                new StringReader(jsonText));
+        final List<?> tape = (List<?>) Json.parseTape(
+                new StringReader(jsonText));
+        Assertions.assertEquals(expected, tape);
+        Assertions.assertEquals(List.of(Byte.class, Short.class,
+                Integer.class, Long.class, Float.class, Double.class,
+                BigInteger.class, BigDecimal.class, Float.class),
+                tape.stream().map(Object::getClass).toList());
+        for (int i = 0; i < expected.size(); i++) {
+            Assertions.assertEquals(expected.get(i), tape.get(i));
+        }
+        assertThrows(IndexOutOfBoundsException.class,
+                () -> tape.get(expected.size()));
+    }
+
+    /**
+     * Tests lookup of names, including names that are not ASCII.
+     * @throws IOException
+     */
+    @Test
+    void testObject() throws IOException {
+        final Map<?, ?> tape = (Map<?, ?>) Json.parseTape(
+                ("{\"a\": true, \"ab\": false, \"é\": null, \"aé\": \"ü\","
+                        + " \"\": {}, \"x\": [[], {\"y\": [1]}]}")
+                        .getBytes(StandardCharsets.UTF_8));
+        Assertions.assertEquals(Boolean.TRUE, tape.get("a"));
+        Assertions.assertEquals(Boolean.FALSE, tape.get("ab"));
+        Assertions.assertTrue(tape.containsKey("é"));
+        Assertions.assertNull(tape.get("é"));
+        Assertions.assertEquals("ü", tape.get("aé"));
+        Assertions.assertEquals(Map.of(), tape.get(""));
+        Assertions.assertEquals(List.of(List.of(),
+                Map.of("y", List.of((byte) 1))), tape.get("x"));
+        Assertions.assertFalse(tape.containsKey("abc"));
+        Assertions.assertFalse(tape.containsKey("aéx"));
+        Assertions.assertFalse(tape.containsKey(1));
+        Assertions.assertNull(tape.get("b"));
+        Assertions.assertEquals(Set.of("a", "ab", "é", "aé", "", "x"),
+                tape.keySet());
+        Assertions.assertEquals(6, tape.size());
+        assertThrows(UnsupportedOperationException.class,
+                () -> tape.remove("a"));
+
+        final Iterator<?> iterator = tape.values().iterator();
+        while (iterator.hasNext()) {
+            iterator.next();
+        }
+        assertThrows(NoSuchElementException.class, iterator::next);
+    }
+
+    /**
+     * Tests the last value of a repeated name wins, like Json.parse.
+     * @throws IOException
+     */
+    @Test
+    void testDuplicateNames() throws IOException {
+        final String jsonText = "{\"a\": 1, \"b\": {\"a\": [], \"a\": \"x\"},"
+                + " \"a\": 2, \"c\": null, \"a\": {\"a\": 3}}";
+        final Map<?, ?> tape = (Map<?, ?>) Json.parseTape(
+                new StringReader(jsonText));
+        Assertions.assertEquals(Json.parse(new StringReader(jsonText)), tape);
+        Assertions.assertEquals(3, tape.size());
+        Assertions.assertEquals(Set.of("a", "b", "c"), tape.keySet());
+        Assertions.assertEquals(Map.of("a", (byte) 3), tape.get("a"));
+        Assertions.assertEquals(Map.of("a", "x"), tape.get("b"));
+        Assertions.assertEquals(1, ((Map<?, ?>) tape.get("b")).size());
+        Assertions.assertTrue(tape.containsKey("c"));
+
+        final Map<?, ?> repeated = (Map<?, ?>) Json.parseTape(
+                new StringReader("{\"a\": 1, \"a\": 2}"));
+        Assertions.assertEquals(Map.of("a", (byte) 2), repeated);
+        Assertions.assertEquals(1, repeated.entrySet().size());
+    }
+
+    /**
+     * Tests indexed gets of elements of different widths, which are
+     * looked up through the offsets of the list.
+     * @throws IOException
+     */
+    @Test
+    void testIndexed() throws IOException {
+        final StringBuilder jsonText = new StringBuilder("[");
+        for (int i = 0; i < 1000; i++) {
+            jsonText.append(i == 0 ? "" : ",").append(switch (i % 4) {
+                case 0 -> "5000000000";
+                case 1 -> "[" + i + ", {}]";
+                case 2 -> "1.5";
+                default -> "\"" + i + "\"";
+            });
+        }
+        final String content = jsonText.append(']').toString();
+        final List<?> expected = (List<?>) Json.parse(
+                new StringReader(content));
+        final List<?> tape = (List<?>) Json.parseTape(
+                new StringReader(content));
+        for (int i = expected.size() - 1; i >= 0; i--) {
+            Assertions.assertEquals(expected.get(i), tape.get(i));
+        }
+        assertThrows(IndexOutOfBoundsException.class,
+                () -> tape.get(expected.size()));
+        assertThrows(IndexOutOfBoundsException.class, () -> tape.get(-1));
+    }
+
+    /**
+     * Tests lookup in objects wide enough to index their names.
+     * @throws IOException
+     */
+    @Test
+    void testWide() throws IOException {
+        final StringBuilder jsonText = new StringBuilder("{\"a\": 0");
+        for (int i = 0; i < 20; i++) {
+            jsonText.append(", \"é").append(i).append("\": ").append(i);
+        }
+        final String content = jsonText.append(", \"a\": 1}").toString();
+        final Map<?, ?> tape = (Map<?, ?>) Json.parseTape(
+                new StringReader(content));
+        Assertions.assertEquals(Json.parse(new StringReader(content)), tape);
+        Assertions.assertEquals(21, tape.size());
+        Assertions.assertEquals((byte) 1, tape.get("a"));
+        Assertions.assertEquals((byte) 19, tape.get("é19"));
+        Assertions.assertTrue(tape.containsKey("é0"));
+        Assertions.assertFalse(tape.containsKey("é20"));
+        Assertions.assertFalse(tape.containsKey(0));
+        Assertions.assertNull(tape.get("b"));
+    }
+
+    /**
+     * Tests list equality with other lists.
+     * @throws IOException
+     */
+    @Test
+    void testListEquals() throws IOException {
+        final List<?> tape = (List<?>) Json.parseTape(
+                new StringReader("[1, 2]"));
+        Assertions.assertEquals(tape, tape);
+        Assertions.assertNotEquals(tape, Set.of((byte) 1, (byte) 2));
+        Assertions.assertNotEquals(tape, List.of((byte) 1));
+        Assertions.assertNotEquals(tape, List.of((byte) 1, (byte) 3));
+        Assertions.assertNotEquals(tape,
+                List.of((byte) 1, (byte) 2, (byte) 3));
+        Assertions.assertEquals(tape,
+                new ArrayList<>(List.of((byte) 1, (byte) 2)));
+    }
+
+    /**
+     * Tests sizes beyond those held in an entry.
+     * @throws IOException
+     */
+    @Test
+    void testLarge() throws IOException {
+        final int size = (1 << 24) + 1;
+        final StringBuilder jsonText = new StringBuilder(size + 2)
+                .append("[\"").repeat('a', size).append("\"]");
+        final List<?> tape = (List<?>) Json.parseTape(
+                new StringReader(jsonText.toString()));
+        Assertions.assertEquals(1, tape.size());
+        Assertions.assertEquals(size, ((String) tape.get(0)).length());
+    }
+
+    /**
+     * Tests scalar documents and illegal content.
+     * @param jsonText
+     */
+    @ParameterizedTest
+    @ValueSource(strings = {"{\"a\" 1}", "{1: 2}", "{\"a\": 1 \"b\": 2}",
+            "[1 2]", "[1,", "?", "tru", "{\"a\": nul}", "[\"a]"})
+    void testIllegal(final String jsonText) {
+        assertThrows(IllegalArgumentException.class,
+                () -> Json.parseTape(new StringReader(jsonText)));
+    }
+
+    /**
+     * Tests scalar documents.
+     * @param jsonText
+     * @throws IOException
+     */
+    @ParameterizedTest
+    @ValueSource(strings = {"\"text\"", "42", "false", "null", " 1.5 "})
+    void testScalar(final String jsonText) throws IOException {
+        Assertions.assertEquals(Json.parse(new StringReader(jsonText)),
+                Json.parseTape(new StringReader(jsonText)));
+    }
+
+    private static Set<Path> jsonFilesProvider() throws IOException {
+        return TestDataProvider.getJSONFiles();
+    }
+}
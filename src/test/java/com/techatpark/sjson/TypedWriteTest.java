@@ -0,0 +1,271 @@
+package com.techatpark.sjson;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Tests writing of records, beans, enums and arrays by Json.write.
+ */
+class TypedWriteTest {
+
+    /**
+     * Bean with getters.
+     */
+    public static class Account {
+
+        /**
+         * Id.
+         */
+        private final long id = 7L;
+
+        /**
+         * Gets id.
+         * @return id
+         */
+        public long getId() {
+            return id;
+        }
+
+        /**
+         * Gets owner.
+         * @return owner
+         */
+        public BindTest.Address getOwner() {
+            return new BindTest.Address("Chennai", 600001);
+        }
+
+        /**
+         * Gets URL.
+         * @return URL
+         */
+        public String getURL() {
+            return "http://localhost/\"7\"";
+        }
+
+        /**
+         * Gets whether it is locked.
+         * @return locked
+         */
+        public boolean isLocked() {
+            return true;
+        }
+
+        /**
+         * Not a getter, as it takes a parameter.
+         * @param index
+         * @return index
+         */
+        public int getAt(final int index) {
+            return index;
+        }
+
+        /**
+         * Not a getter, as it is static.
+         * @return nothing
+         */
+        public static String getNothing() {
+            return "nothing";
+        }
+    }
+
+    /**
+     * Bean with a failing getter.
+     */
+    public static class Broken {
+
+        /**
+         * Fails.
+         * @return never
+         */
+        public String getValue() {
+            throw new IllegalStateException("broken");
+        }
+    }
+
+    /**
+     * Record with an escaped component name.
+     * @param \u00e9t\u00e9
+     */
+    record Season(String \u00e9t\u00e9) { }
+
+    /**
+     * Record without components.
+     */
+    record Empty() { }
+
+    /**
+     * Vehicle, sealed at three levels.
+     */
+    sealed interface Vehicle permits Car { }
+
+    /**
+     * Car.
+     */
+    sealed interface Car extends Vehicle permits SportsCar, Sedan { }
+
+    /**
+     * Sports car.
+     */
+    sealed interface SportsCar extends Car permits Racer { }
+
+    /**
+     * Racer.
+     * @param speed
+     */
+    record Racer(int speed) implements SportsCar { }
+
+    /**
+     * Sedan.
+     * @param seats
+     */
+    record Sedan(int seats) implements Car { }
+
+    /**
+     * Tool.
+     */
+    sealed interface Tool permits Hammer { }
+
+    /**
+     * Hammer, open to any record.
+     */
+    non-sealed interface Hammer extends Tool { }
+
+    /**
+     * Mallet.
+     * @param weight
+     */
+    record Mallet(int weight) implements Hammer { }
+
+    /**
+     * Tests records are written as objects of their components.
+     */
+    @Test
+    void testRecord() {
+        final BindTest.Person person = new BindTest.Person("Hari", 40, true,
+                List.of("a", "b"), Map.of("math", 9.5),
+                new BindTest.Address("Chennai", 600001),
+                BindTest.Role.ADMIN, new long[]{1L, 2L},
+                new LinkedHashSet<>(List.of("h", "k")));
+        Assertions.assertEquals("{\"name\":\"Hari\",\"age\":40,"
+                + "\"active\":true,\"tags\":[\"a\",\"b\"],"
+                + "\"scores\":{\"math\":9.5},"
+                + "\"address\":{\"city\":\"Chennai\",\"zip\":600001},"
+                + "\"role\":\"ADMIN\",\"ids\":[1,2],"
+                + "\"nicknames\":[\"h\",\"k\"]}", Json.stringify(person));
+        Assertions.assertEquals("{\"name\":null,\"age\":0,"
+                + "\"active\":false,\"tags\":null,\"scores\":null,"
+                + "\"address\":null,\"role\":null,\"ids\":null,"
+                + "\"nicknames\":null}", Json.stringify(
+                new BindTest.Person(null, 0, false, null, null, null,
+                        null, null, null)));
+        Assertions.assertEquals("{}", Json.stringify(new Empty()));
+        Assertions.assertEquals("{\"\u00e9t\u00e9\":\"\\n\"}",
+                Json.stringify(new Season("\n")));
+    }
+
+    /**
+     * Tests records are read back as the same values.
+     * @throws IOException
+     */
+    @Test
+    void testRoundTrip() throws IOException {
+        final BindTest.Person person = new BindTest.Person("Hari", 40, true,
+                List.of("a", "b"), Map.of("math", 9.5),
+                new BindTest.Address("Chennai", 600001),
+                BindTest.Role.USER, new long[]{1L, 2L},
+                new LinkedHashSet<>(List.of("h", "k")));
+        final BindTest.Person read = Json.parse(
+                new StringReader(Json.stringify(person)),
+                BindTest.Person.class);
+        Assertions.assertEquals(Json.stringify(person), Json.stringify(read));
+    }
+
+    /**
+     * Tests records of sealed types are written with their type name.
+     * @throws IOException
+     */
+    @Test
+    void testSealed() throws IOException {
+        final BindTest.Shape[] shapes = {new BindTest.Circle(1.5),
+                new BindTest.Square(2.0f)};
+        Assertions.assertEquals("[{\"@type\":\"Circle\",\"radius\":1.5},"
+                + "{\"@type\":\"Square\",\"side\":2.0}]",
+                Json.stringify(shapes));
+        final BindTest.Shape[] read = Json.parse(
+                new StringReader(Json.stringify(shapes)),
+                BindTest.Shape[].class);
+        Assertions.assertArrayEquals(shapes, read);
+    }
+
+    /**
+     * Tests records reaching their sealed type through more than one
+     * interface are written with their type name, and read back.
+     * @throws IOException
+     */
+    @Test
+    void testSealedHierarchy() throws IOException {
+        final Vehicle[] vehicles = {new Racer(300), new Sedan(5)};
+        final String jsonText = Json.stringify(vehicles);
+        Assertions.assertEquals("[{\"@type\":\"Racer\",\"speed\":300},"
+                + "{\"@type\":\"Sedan\",\"seats\":5}]", jsonText);
+        Assertions.assertArrayEquals(vehicles, Json.parse(
+                new StringReader(jsonText), Vehicle[].class));
+        Assertions.assertEquals(new Racer(300), Json.parse(
+                new StringReader(Json.stringify(new Racer(300))),
+                Car.class));
+
+        Assertions.assertEquals("{\"@type\":\"Mallet\",\"weight\":2}",
+                Json.stringify(new Mallet(2)));
+    }
+
+    /**
+     * Tests beans are written as objects of their getters.
+     */
+    @Test
+    void testBean() {
+        Assertions.assertEquals("{\"URL\":\"http:\\/\\/localhost\\/\\\"7\\\"\","
+                + "\"id\":7,\"locked\":true,"
+                + "\"owner\":{\"city\":\"Chennai\",\"zip\":600001}}",
+                Json.stringify(new Account()));
+        final IllegalStateException exception = assertThrows(
+                IllegalStateException.class,
+                () -> Json.stringify(new Broken()));
+        Assertions.assertEquals("broken", exception.getMessage());
+    }
+
+    /**
+     * Tests arrays, enums and other classes.
+     * @throws IOException
+     */
+    @Test
+    void testOthers() throws IOException {
+        Assertions.assertEquals("[[1,2],[\"a\",null],[true]]",
+                Json.stringify(new Object[]{new int[]{1, 2},
+                        new String[]{"a", null}, new boolean[]{true}}));
+        Assertions.assertEquals("[\"ADMIN\"]",
+                Json.stringify(List.of(BindTest.Role.ADMIN)));
+        // Without getters, toString is written
+        Assertions.assertEquals("x", Json.stringify('x'));
+        // Classes of the JDK are not beans, though they have getters
+        final Date date = new Date(0);
+        Assertions.assertEquals(date.toString(), Json.stringify(date));
+        Assertions.assertEquals(date.toString(),
+                new String(Json.toBytes(date), StandardCharsets.UTF_8));
+
+        final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        Json.write(new Season("\u00fc"), outputStream);
+        Assertions.assertEquals("{\"\u00e9t\u00e9\":\"\u00fc\"}",
+                outputStream.toString(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,150 @@
+package com.techatpark.sjson;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.techatpark.sjson.util.TestDataProvider;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.ByteArrayInputStream;
+import java.io.FileReader;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Tests parsing of UTF-8 bytes from byte[], ByteBuffer, InputStream
+ * and mapped files.
+ */
+class Utf8Test {
+
+    final ObjectMapper objectMapper = new ObjectMapper();
+
+    /**
+     * Tests bytes are parsed same as the reader.
+     * <p>
+     *     Steps:
+     *     1) Parse the file with a Reader.
+     *     2) Parse the bytes of the file with each byte source.
+     * </p>
+     * Expected Result:
+     * All the values should be equal.
+     * @param path
+     * @throws IOException
+     */
+    @ParameterizedTest
+    @MethodSource("jsonFilesProvider")
+    void testValid(final Path path) throws IOException {
+        final Object expected = Json.parse(new FileReader(path.toFile()));
+        final byte[] bytes = Files.readAllBytes(path);
+
+        Assertions.assertEquals(expected, Json.parse(bytes),
+                "byte[] failed for " + path);
+        Assertions.assertEquals(expected,
+                Json.parse(new ByteArrayInputStream(bytes)),
+                "InputStream failed for " + path);
+        Assertions.assertEquals(expected, Json.parse(ByteBuffer.wrap(bytes)),
+                "ByteBuffer failed for " + path);
+
+        final ByteBuffer direct = ByteBuffer.allocateDirect(bytes.length);
+        direct.put(bytes).flip();
+        Assertions.assertEquals(expected, Json.parse(direct),
+                "Direct ByteBuffer failed for " + path);
+        Assertions.assertEquals(0, direct.position());
+
+        Assertions.assertEquals(expected, Json.parse(path),
+                "Path failed for " + path);
+    }
+
+    /**
+     * Tests strings with multi byte characters and escapes.
+     * @param originalValue
+     * @throws IOException
+     */
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "Hari",
+            "Escapes \" \\",
+            "Emoji \uD83D\uDE00 \u0000",
+            "こんにちは (Japanese)",
+            "வணக்கம் (Tamil)",
+            "Mix: English हिंदी 中文 日本語 \uD83D\uDE80",
+            "Escaped then multi byte \t ü € \uD83D\uDE80"
+    })
+    void testString(final String originalValue) throws IOException {
+        final byte[] bytes = objectMapper.writeValueAsString(originalValue)
+                .getBytes(StandardCharsets.UTF_8);
+        Assertions.assertEquals(originalValue, Json.parse(bytes));
+
+        // Long enough to cross the buffer of the stream
+        final String longValue = originalValue.repeat(
+                Json.Parser.BUFFER_SIZE / originalValue.length() + 1);
+        Assertions.assertEquals(longValue, Json.parse(new ByteArrayInputStream(
+                objectMapper.writeValueAsString(longValue)
+                        .getBytes(StandardCharsets.UTF_8))));
+    }
+
+    /**
+     * Tests a slice of a larger buffer is parsed.
+     * @throws IOException
+     */
+    @ParameterizedTest
+    @ValueSource(strings = {"[1,\"two\",true]"})
+    void testSlice(final String json) throws IOException {
+        final byte[] bytes = ("xx" + json + "yy")
+                .getBytes(StandardCharsets.UTF_8);
+        final ByteBuffer slice = ByteBuffer.wrap(bytes, 2, json.length())
+                .slice();
+        Assertions.assertEquals(Json.parse(json.getBytes(
+                StandardCharsets.UTF_8)), Json.parse(slice));
+    }
+
+    /**
+     * Tests Illegal JSON bytes.
+     * @param path
+     */
+    @ParameterizedTest
+    @MethodSource("illegalJsonPaths")
+    void testIllegal(final Path path) throws IOException {
+        final byte[] bytes = Files.readAllBytes(path);
+        assertThrows(IllegalArgumentException.class,
+                () -> Json.parse(bytes));
+        assertThrows(IllegalArgumentException.class,
+                () -> Json.parse(path));
+    }
+
+    /**
+     * Tests truncated and malformed byte sequences.
+     * @param json
+     */
+    @ParameterizedTest
+    @ValueSource(strings = {"\"\\u00", "\"\u00e9", "\"\\t\u00e9"})
+    void testTruncated(final String json) {
+        final byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+        // Drop last byte to break the sequence
+        final byte[] truncated = Arrays.copyOf(bytes,
+                bytes.length - 1);
+        assertThrows(IllegalArgumentException.class,
+                () -> Json.parse(truncated));
+        assertThrows(IllegalArgumentException.class,
+                () -> Json.parse(new byte[]{'"', '\\', 't', (byte) 0x80}));
+    }
+
+    private static Set<Path> jsonFilesProvider() throws IOException {
+        return TestDataProvider.getJSONFiles();
+    }
+
+    private static Stream<Path> illegalJsonPaths() throws IOException {
+        return Files.list(Paths.get("src/test/resources/illegal"))
+                .filter(path -> !Files.isDirectory(path));
+    }
+}
@@ -0,0 +1,124 @@
+package com.techatpark.sjson;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Tests UTF-8 bytes written by Utf8Writer.
+ */
+class Utf8WriterTest {
+
+    /**
+     * Tests every character is escaped and encoded as stringify does.
+     */
+    @Test
+    void testCharacters() {
+        final StringBuilder sb = new StringBuilder();
+        for (char ch = 0; ch < Character.MIN_SURROGATE; ch++) {
+            sb.append(ch);
+        }
+        for (int ch = Character.MAX_SURROGATE + 1; ch <= Character.MAX_VALUE;
+             ch++) {
+            sb.append((char) ch);
+        }
+        sb.appendCodePoint(0x1F600).append("😀end");
+        final String text = sb.toString();
+        Assertions.assertEquals(Json.stringify(text),
+                new String(Json.toBytes(text), StandardCharsets.UTF_8));
+        Assertions.assertArrayEquals(
+                Json.stringify(text).getBytes(StandardCharsets.UTF_8),
+                Json.toBytes(text));
+    }
+
+    /**
+     * Tests punctuation escaped as unicode, in text larger than the
+     * buffer, written into a stream.
+     * @throws IOException
+     */
+    @Test
+    void testPunctuation() throws IOException {
+        final String text = "\u201Cquoted\u201D \u2013 \u2026 \u20AC5"
+                .repeat(Json.Parser.BUFFER_SIZE);
+        final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        Json.write(text, outputStream);
+        final String json = outputStream.toString(StandardCharsets.UTF_8);
+        Assertions.assertEquals(Json.stringify(text), json);
+        Assertions.assertTrue(json.startsWith(
+                "\"\\u201Cquoted\\u201D \\u2013 \\u2026 \\u20AC5"));
+        Assertions.assertEquals(text, Json.parse(new StringReader(json)));
+    }
+
+    /**
+     * Tests malformed surrogates are written as '?'.
+     */
+    @Test
+    void testMalformed() {
+        Assertions.assertEquals("\"?a?\"", new String(
+                Json.toBytes("\uD83Da\uDE00"), StandardCharsets.UTF_8));
+        Assertions.assertEquals("\"?\"", new String(
+                Json.toBytes("\uD83D"), StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Tests appending as an Appendable.
+     * @throws IOException
+     */
+    @Test
+    void testAppend() throws IOException {
+        final Utf8Writer writer = new Utf8Writer();
+        writer.append("a/").append(null).append('é').append('b')
+                .append("x€y", 1, 2).append(null, 0, 2);
+        Assertions.assertEquals("a/nulléb€nu",
+                new String(writer.toByteArray(), StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Tests content larger than the buffer, written into stream and
+     * into a growing buffer.
+     * @throws IOException
+     */
+    @Test
+    void testLarge() throws IOException {
+        final Object value = List.of("é\"".repeat(Json.Parser.BUFFER_SIZE),
+                Map.of("k".repeat(KeyPrefixes.MAX_KEY_LENGTH + 1),
+                        "\u0001".repeat(Json.Parser.BUFFER_SIZE)));
+        final String expected = Json.stringify(value);
+
+        final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        Json.write(value, outputStream);
+        Assertions.assertEquals(expected,
+                outputStream.toString(StandardCharsets.UTF_8));
+        Assertions.assertEquals(expected,
+                new String(Json.toBytes(value), StandardCharsets.UTF_8));
+        Assertions.assertEquals(value,
+                Json.parse(new StringReader(expected)));
+
+        final ByteBuffer byteBuffer = ByteBuffer.allocateDirect(
+                expected.getBytes(StandardCharsets.UTF_8).length);
+        Json.write(value, byteBuffer);
+        Assertions.assertFalse(byteBuffer.hasRemaining());
+    }
+
+    /**
+     * Tests writing into a buffer too small for the text.
+     */
+    @Test
+    void testOverflow() {
+        assertThrows(BufferOverflowException.class,
+                () -> Json.write(List.of("abc"), ByteBuffer.allocate(4)));
+        assertThrows(BufferOverflowException.class,
+                () -> Json.write("x".repeat(Json.Parser.BUFFER_SIZE * 2),
+                        ByteBuffer.allocate(Json.Parser.BUFFER_SIZE)));
+    }
+}
@@ -28,10 +28,18 @@ class CodeReviewTest {
                 .should().onlyDependOnClassesThat()
                 .resideInAnyPackage("java.io"
                         ,"java.math"
+                        ,"java.nio"
+                        ,"java.nio.channels"
+                        ,"java.nio.charset"
+                        ,"java.nio.file"
                         ,"java.util"
+                        , "java.util.function"
                         , "java.util.stream"
+                        , "java.util.concurrent"
+                        , "java.util.concurrent.atomic"
                         ,"jakarta.validation"
                         ,"java.lang"
+                        ,"java.lang.invoke"
                         ,"java.lang.reflect"
                         ,"com.techatpark.sjson",
                         "com.techatpark.sjson.*");